@@ -0,0 +1,35 @@
+package org.yaroslaavl.recruitingservice.broker;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+import org.yaroslaavl.recruitingservice.broker.dto.CandidateProfileEventDto;
+import org.yaroslaavl.recruitingservice.database.entity.CandidateProfile;
+import org.yaroslaavl.recruitingservice.feignClient.user.CandidateProfileProjection;
+
+/**
+ * Writes the profile changes published by user-service to the {@link CandidateProfileProjection}. The queue is
+ * durable and shared by all instances, so each event is applied once and none are lost while the service is down.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CandidateProfileEventListener {
+
+    private final CandidateProfileProjection candidateProfileProjection;
+
+    @RabbitListener(queues = "#{candidateProfileQueue.name}")
+    public void onProfileChanged(CandidateProfileEventDto event) {
+        boolean applied = candidateProfileProjection.apply(CandidateProfile.builder()
+                .userId(event.userId())
+                .displayName(event.displayName())
+                .salary(CandidateProfileProjection.parseSalary(event.salary()))
+                .workMode(event.workMode())
+                .availableHoursPerWeek(event.availableHoursPerWeek())
+                .availableFrom(CandidateProfileProjection.parseAvailableFrom(event.availableFrom()))
+                .changedAt(event.changedAt())
+                .build());
+        log.debug("Profile of candidate '{}' changed at {}, applied: {}", event.userId(), event.changedAt(), applied);
+    }
+}
@@ -0,0 +1,42 @@
+package org.yaroslaavl.recruitingservice.broker;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.ListenerContainerConsumerFailedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.yaroslaavl.recruitingservice.broker.dto.RecruiterMembershipEventDto;
+import org.yaroslaavl.recruitingservice.feignClient.user.RecruiterMembershipCache;
+
+/**
+ * Evicts memberships from the {@link RecruiterMembershipCache} of this instance when user-service reports that a
+ * recruiter joined or left a company. Like the approval events, they arrive on a queue exclusive to the instance,
+ * so the whole cache is dropped when its own consumer fails; failures of other listener containers are ignored.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecruiterMembershipEventListener {
+
+    private static final String LISTENER_ID = "recruiter-membership-events";
+
+    private final RecruiterMembershipCache recruiterMembershipCache;
+
+    @RabbitListener(id = LISTENER_ID, queues = "#{recruiterMembershipQueue.name}")
+    public void onMembershipChanged(RecruiterMembershipEventDto event) {
+        log.debug("Membership of recruiter '{}' in company {} changed", event.recruiterId(), event.companyId());
+        recruiterMembershipCache.evict(event.recruiterId(), event.companyId());
+    }
+
+    @EventListener
+    public void onConsumerFailed(ListenerContainerConsumerFailedEvent event) {
+        if (!(event.getSource() instanceof AbstractMessageListenerContainer container)
+                || !LISTENER_ID.equals(container.getListenerId())) {
+            return;
+        }
+        log.warn("Recruiter membership consumer failed, dropping the membership cache: {}", event.getReason());
+        recruiterMembershipCache.invalidateAll();
+    }
+}
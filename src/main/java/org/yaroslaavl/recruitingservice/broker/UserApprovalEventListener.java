@@ -0,0 +1,42 @@
+package org.yaroslaavl.recruitingservice.broker;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.ListenerContainerConsumerFailedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.yaroslaavl.recruitingservice.broker.dto.UserApprovalEventDto;
+import org.yaroslaavl.recruitingservice.feignClient.user.UserApprovalProjection;
+
+/**
+ * Keeps the {@link UserApprovalProjection} of this instance up to date with the approval changes published by
+ * user-service. The queue is exclusive to the instance, so events published while its consumer was down are lost;
+ * the projection is therefore dropped whenever its own consumer fails and rebuilt from user-service on demand.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserApprovalEventListener {
+
+    private static final String LISTENER_ID = "user-approval-events";
+
+    private final UserApprovalProjection userApprovalProjection;
+
+    @RabbitListener(id = LISTENER_ID, queues = "#{userApprovalQueue.name}")
+    public void onApprovalChanged(UserApprovalEventDto event) {
+        log.debug("Approval of user '{}' changed to {}", event.userId(), event.approved());
+        userApprovalProjection.apply(event.userId(), event.approved(), event.changedAt());
+    }
+
+    @EventListener
+    public void onConsumerFailed(ListenerContainerConsumerFailedEvent event) {
+        if (!(event.getSource() instanceof AbstractMessageListenerContainer container)
+                || !LISTENER_ID.equals(container.getListenerId())) {
+            return;
+        }
+        log.warn("User approval consumer failed, dropping the approval projection: {}", event.getReason());
+        userApprovalProjection.invalidateAll();
+    }
+}
@@ -0,0 +1,15 @@
+package org.yaroslaavl.recruitingservice.broker.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.time.Instant;
+
+public record CandidateProfileEventDto(
+        @NotBlank String userId,
+        String displayName,
+        String salary,
+        String workMode,
+        Integer availableHoursPerWeek,
+        String availableFrom,
+        Instant changedAt
+) { }
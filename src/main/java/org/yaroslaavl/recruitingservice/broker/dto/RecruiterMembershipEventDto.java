@@ -0,0 +1,10 @@
+package org.yaroslaavl.recruitingservice.broker.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.UUID;
+
+public record RecruiterMembershipEventDto(
+        @NotBlank String recruiterId,
+        UUID companyId
+) { }
@@ -0,0 +1,11 @@
+package org.yaroslaavl.recruitingservice.broker.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.time.Instant;
+
+public record UserApprovalEventDto(
+        @NotBlank String userId,
+        boolean approved,
+        Instant changedAt
+) { }
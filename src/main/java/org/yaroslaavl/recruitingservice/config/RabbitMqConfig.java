@@ -1,5 +1,7 @@
 package org.yaroslaavl.recruitingservice.config;
 
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
@@ -25,6 +27,11 @@ public class RabbitMqConfig {
     private final long ttl;
     private final long length;
     private final String recruitingDlq;
+    private final String userExchange;
+    private final String userApprovalRoutingKey;
+    private final String recruiterMembershipRoutingKey;
+    private final String candidateProfileQueue;
+    private final String candidateProfileRoutingKey;
 
     public RabbitMqConfig(
             @Value("${rabbitmq.recruiting.exchange}") String recruitingExchange,
@@ -34,7 +41,12 @@ public class RabbitMqConfig {
             @Value("${rabbitmq.recruiting.queues.start.arguments.x-dead-letter-routing-key}") String recruitingDlqRoutingKey,
             @Value("${rabbitmq.recruiting.queues.start.arguments.x-message-ttl}") long ttl,
             @Value("${rabbitmq.recruiting.queues.start.arguments.x-max-length}") long length,
-            @Value("${rabbitmq.recruiting.queues.dead-letter.queue.name}") String recruitingDlq
+            @Value("${rabbitmq.recruiting.queues.dead-letter.queue.name}") String recruitingDlq,
+            @Value("${rabbitmq.user.exchange:user.exchange}") String userExchange,
+            @Value("${rabbitmq.user.approval.routing-key:user.approval.changed}") String userApprovalRoutingKey,
+            @Value("${rabbitmq.user.membership.routing-key:user.company.membership.changed}") String recruiterMembershipRoutingKey,
+            @Value("${rabbitmq.user.candidate-profile.queue:recruiting-service.candidate-profile}") String candidateProfileQueue,
+            @Value("${rabbitmq.user.candidate-profile.routing-key:user.candidate.profile.changed}") String candidateProfileRoutingKey
     ) {
         this.recruitingExchange = recruitingExchange;
         this.recruitingQueue = recruitingQueue;
@@ -44,11 +56,18 @@ public class RabbitMqConfig {
         this.ttl = ttl;
         this.length = length;
         this.recruitingDlq = recruitingDlq;
+        this.userExchange = userExchange;
+        this.userApprovalRoutingKey = userApprovalRoutingKey;
+        this.recruiterMembershipRoutingKey = recruiterMembershipRoutingKey;
+        this.candidateProfileQueue = candidateProfileQueue;
+        this.candidateProfileRoutingKey = candidateProfileRoutingKey;
     }
 
     @Bean
     public Jackson2JsonMessageConverter messageConverter() {
-        return new Jackson2JsonMessageConverter();
+        Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+        converter.setAlwaysConvertToInferredType(true);
+        return converter;
     }
 
     @Bean
@@ -87,6 +106,41 @@ public class RabbitMqConfig {
         return BindingBuilder.bind(userDlqQueue()).to(userDlx()).with(recruitingDlqRoutingKey);
     }
 
+    @Bean
+    public DirectExchange userEventsExchange() {
+        return new DirectExchange(userExchange);
+    }
+
+    @Bean
+    public Queue userApprovalQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("recruiting-service.user-approval."));
+    }
+
+    @Bean
+    public Binding userApprovalBinding() {
+        return BindingBuilder.bind(userApprovalQueue()).to(userEventsExchange()).with(userApprovalRoutingKey);
+    }
+
+    @Bean
+    public Queue recruiterMembershipQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("recruiting-service.recruiter-membership."));
+    }
+
+    @Bean
+    public Binding recruiterMembershipBinding() {
+        return BindingBuilder.bind(recruiterMembershipQueue()).to(userEventsExchange()).with(recruiterMembershipRoutingKey);
+    }
+
+    @Bean
+    public Queue candidateProfileQueue() {
+        return new Queue(candidateProfileQueue, true, false, false);
+    }
+
+    @Bean
+    public Binding candidateProfileBinding() {
+        return BindingBuilder.bind(candidateProfileQueue()).to(userEventsExchange()).with(candidateProfileRoutingKey);
+    }
+
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, Jackson2JsonMessageConverter converter) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
@@ -40,7 +40,11 @@ public class SecurityConfig {
                                         "/swagger-ui.html",
                                         "/swagger-ui/**",
                                         "/api/v1/vacancies/search",
+                                        "/api/v1/vacancies/search/scroll",
+                                        "/api/v1/vacancies/search/facets",
+                                        "/api/v1/vacancies/search/suggest",
                                         "/api/v1/vacancies/*/company",
+                                        "/api/v1/vacancies/*/company/scroll",
                                         "/api/v1/vacancies/*/info",
                                         "/api/v1/vacancies/count").permitAll()
                                 .anyRequest().authenticated()
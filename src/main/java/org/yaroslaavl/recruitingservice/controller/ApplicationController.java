@@ -7,6 +7,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.yaroslaavl.recruitingservice.database.entity.enums.RecruitingSystemStatus;
+import org.yaroslaavl.recruitingservice.database.entity.enums.TotalsMode;
 import org.yaroslaavl.recruitingservice.dto.request.VacancyApplicationRequestDto;
 import org.yaroslaavl.recruitingservice.dto.response.ApplicationDetailsResponseDto;
 import org.yaroslaavl.recruitingservice.dto.response.list.ApplicationShortDto;
@@ -15,6 +16,7 @@ import org.yaroslaavl.recruitingservice.dto.response.list.PageShortDto;
 import org.yaroslaavl.recruitingservice.feignClient.dto.ApplicationChatInfo;
 import org.yaroslaavl.recruitingservice.service.ApplicationService;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -38,14 +40,15 @@ public class ApplicationController {
     public ResponseEntity<PageShortDto<ApplicationShortDto>> getApplications(
             @PathVariable("vacancyId") UUID vacancyId,
             @RequestParam(required = false, name = "status") RecruitingSystemStatus status,
-            @RequestParam(required = false) String salary,
+            @RequestParam(required = false) Integer salary,
             @RequestParam(required = false) String workMode,
             @RequestParam(required = false) Integer availableHoursPerWeek,
-            @RequestParam(required = false) String availableFrom,
+            @RequestParam(required = false) LocalDate availableFrom,
+            @RequestParam(required = false, defaultValue = "EXACT") TotalsMode totals,
             @PageableDefault(size = 15) Pageable pageable
     ) {
         return ResponseEntity.ok(
-                applicationService.getFilteredApplications(vacancyId, status, salary, workMode, availableHoursPerWeek, availableFrom, pageable)
+                applicationService.getFilteredApplications(vacancyId, status, salary, workMode, availableHoursPerWeek, availableFrom, totals, pageable)
         );
     }
 
@@ -65,8 +68,9 @@ public class ApplicationController {
 
     @GetMapping("/mine")
     @PreAuthorize("hasRole('VERIFIED_CANDIDATE')")
-    public ResponseEntity<PageShortDto<CandidateApplicationsShortDto>> getMyApplications(@PageableDefault(size = 15) Pageable pageable) {
-        return ResponseEntity.ok(applicationService.getMyApplications(pageable));
+    public ResponseEntity<PageShortDto<CandidateApplicationsShortDto>> getMyApplications(@RequestParam(required = false, defaultValue = "EXACT") TotalsMode totals,
+                                                                                          @PageableDefault(size = 15) Pageable pageable) {
+        return ResponseEntity.ok(applicationService.getMyApplications(totals, pageable));
     }
 
     @GetMapping("/chat-open")
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.yaroslaavl.recruitingservice.database.entity.enums.CategorySearchMode;
 import org.yaroslaavl.recruitingservice.dto.response.CategoryResponseDto;
 import org.yaroslaavl.recruitingservice.service.CategoryService;
 
@@ -22,9 +23,10 @@ public class CategoryController {
     @GetMapping("/filtered")
     @PreAuthorize("hasRole('VERIFIED_RECRUITER')")
     public ResponseEntity<List<CategoryResponseDto>> findFilteredCategories(
-            @RequestParam(value = "searchName", required = false) String searchName
+            @RequestParam(value = "searchName", required = false) String searchName,
+            @RequestParam(value = "searchMode", required = false, defaultValue = "LIKE") CategorySearchMode searchMode
     ) {
-        return ResponseEntity.ok(categoryService.findFilteredCategories(searchName));
+        return ResponseEntity.ok(categoryService.findFilteredCategories(searchName, searchMode));
     }
 }
 
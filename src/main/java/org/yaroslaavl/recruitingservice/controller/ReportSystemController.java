@@ -7,6 +7,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.yaroslaavl.recruitingservice.database.entity.enums.RecruitingSystemStatus;
+import org.yaroslaavl.recruitingservice.database.entity.enums.TotalsMode;
 import org.yaroslaavl.recruitingservice.dto.request.ReportRequestDto;
 import org.yaroslaavl.recruitingservice.dto.response.ReportSystemResponseDto;
 import org.yaroslaavl.recruitingservice.dto.response.list.PageShortDto;
@@ -41,8 +42,9 @@ public class ReportSystemController {
     @GetMapping("/search")
     @PreAuthorize("hasRole('MANAGER')")
     public ResponseEntity<PageShortDto<ReportSystemShortDto>> getFilteredReports(@RequestParam(required = false, value = "status") RecruitingSystemStatus status,
+                                                                                 @RequestParam(required = false, defaultValue = "EXACT") TotalsMode totals,
                                                                                  @PageableDefault(size = 15) Pageable pageable) {
-        return ResponseEntity.ok(reportSystemService.getFilteredReports(status, pageable));
+        return ResponseEntity.ok(reportSystemService.getFilteredReports(status, totals, pageable));
     }
 
     @GetMapping("/{id}")
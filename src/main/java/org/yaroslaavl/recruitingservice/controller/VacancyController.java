@@ -8,17 +8,24 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.yaroslaavl.recruitingservice.database.entity.enums.ContractType;
 import org.yaroslaavl.recruitingservice.database.entity.enums.PositionLevel;
+import org.yaroslaavl.recruitingservice.database.entity.enums.SalaryRangeMode;
+import org.yaroslaavl.recruitingservice.database.entity.enums.TotalsMode;
+import org.yaroslaavl.recruitingservice.database.entity.enums.VacancySearchMode;
 import org.yaroslaavl.recruitingservice.database.entity.enums.WorkMode;
 import org.yaroslaavl.recruitingservice.database.entity.enums.Workload;
 import org.yaroslaavl.recruitingservice.dto.request.VacancyRequestDto;
 import org.yaroslaavl.recruitingservice.dto.request.VacancyUpdateRequestDto;
+import org.yaroslaavl.recruitingservice.dto.response.SuggestionDto;
+import org.yaroslaavl.recruitingservice.dto.response.VacancyFacetsDto;
 import org.yaroslaavl.recruitingservice.dto.response.VacancyResponseDto;
+import org.yaroslaavl.recruitingservice.dto.response.list.CursorPageShortDto;
 import org.yaroslaavl.recruitingservice.dto.response.list.PageShortDto;
 import org.yaroslaavl.recruitingservice.dto.response.list.VacancyShortDto;
 import org.yaroslaavl.recruitingservice.service.VacancyService;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -69,20 +76,82 @@ public class VacancyController {
             @RequestParam(required = false) Workload workload,
             @RequestParam(required = false) Integer salaryFrom,
             @RequestParam(required = false) Integer salaryTo,
+            @RequestParam(required = false, defaultValue = "WITHIN") SalaryRangeMode salaryMode,
             @RequestParam(required = false) LocalDate uploadAt,
+            @RequestParam(required = false, defaultValue = "FULL_TEXT") VacancySearchMode searchMode,
+            @RequestParam(required = false, defaultValue = "EXACT") TotalsMode totals,
             @PageableDefault(size = 15) Pageable pageable
     ) {
         return ResponseEntity.ok(
                 vacancyService.getFilteredVacancies(textSearch, contractType, workMode, positionLevel,
-                        workload, salaryFrom, salaryTo, uploadAt, pageable)
+                        workload, salaryFrom, salaryTo, salaryMode, uploadAt, searchMode, totals, pageable)
+        );
+    }
+
+    @GetMapping("/search/facets")
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<VacancyFacetsDto> getVacancyFacets(
+            @RequestParam(required = false, defaultValue = "") String textSearch,
+            @RequestParam(required = false) ContractType contractType,
+            @RequestParam(required = false) WorkMode workMode,
+            @RequestParam(required = false) PositionLevel positionLevel,
+            @RequestParam(required = false) Workload workload,
+            @RequestParam(required = false) Integer salaryFrom,
+            @RequestParam(required = false) Integer salaryTo,
+            @RequestParam(required = false, defaultValue = "WITHIN") SalaryRangeMode salaryMode,
+            @RequestParam(required = false) LocalDate uploadAt,
+            @RequestParam(required = false, defaultValue = "FULL_TEXT") VacancySearchMode searchMode
+    ) {
+        return ResponseEntity.ok(
+                vacancyService.getVacancyFacets(textSearch, contractType, workMode, positionLevel,
+                        workload, salaryFrom, salaryTo, salaryMode, uploadAt, searchMode)
+        );
+    }
+
+    @GetMapping("/search/suggest")
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<List<SuggestionDto>> suggest(
+            @RequestParam String query,
+            @RequestParam(required = false, defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(vacancyService.suggest(query, limit));
+    }
+
+    @GetMapping("/search/scroll")
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<CursorPageShortDto<VacancyShortDto>> scrollFilteredVacancies(
+            @RequestParam(required = false, defaultValue = "") String textSearch,
+            @RequestParam(required = false) ContractType contractType,
+            @RequestParam(required = false) WorkMode workMode,
+            @RequestParam(required = false) PositionLevel positionLevel,
+            @RequestParam(required = false) Workload workload,
+            @RequestParam(required = false) Integer salaryFrom,
+            @RequestParam(required = false) Integer salaryTo,
+            @RequestParam(required = false, defaultValue = "WITHIN") SalaryRangeMode salaryMode,
+            @RequestParam(required = false) LocalDate uploadAt,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "15") int size
+    ) {
+        return ResponseEntity.ok(
+                vacancyService.scrollFilteredVacancies(textSearch, contractType, workMode, positionLevel,
+                        workload, salaryFrom, salaryTo, salaryMode, uploadAt, cursor, size)
         );
     }
 
     @GetMapping("/{id}/company")
     @PreAuthorize("permitAll()")
     public ResponseEntity<PageShortDto<VacancyShortDto>> getCompanyVacancies(@PathVariable("id") UUID id,
+                                                                             @RequestParam(required = false, defaultValue = "EXACT") TotalsMode totals,
                                                                              @PageableDefault(size = 15) Pageable pageable) {
-        return ResponseEntity.ok(vacancyService.getCompanyVacancies(id, pageable));
+        return ResponseEntity.ok(vacancyService.getCompanyVacancies(id, totals, pageable));
+    }
+
+    @GetMapping("/{id}/company/scroll")
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<CursorPageShortDto<VacancyShortDto>> scrollCompanyVacancies(@PathVariable("id") UUID id,
+                                                                                      @RequestParam(required = false) String cursor,
+                                                                                      @RequestParam(required = false, defaultValue = "15") int size) {
+        return ResponseEntity.ok(vacancyService.scrollCompanyVacancies(id, cursor, size));
     }
 
     @GetMapping("/count")
@@ -0,0 +1,44 @@
+package org.yaroslaavl.recruitingservice.database.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "candidate_profile", schema = "recruiting_data")
+public class CandidateProfile {
+
+    @Id
+    @Column(name = "user_id")
+    private String userId;
+
+    @Column(name = "display_name")
+    private String displayName;
+
+    @Column(name = "salary")
+    private Integer salary;
+
+    @Column(name = "work_mode", length = 50)
+    private String workMode;
+
+    @Column(name = "available_hours_per_week")
+    private Integer availableHoursPerWeek;
+
+    @Column(name = "available_from")
+    private LocalDate availableFrom;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+}
@@ -0,0 +1,9 @@
+package org.yaroslaavl.recruitingservice.database.entity.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "SalaryRangeMode")
+public enum SalaryRangeMode {
+    WITHIN,
+    OVERLAPS,
+}
@@ -0,0 +1,10 @@
+package org.yaroslaavl.recruitingservice.database.entity.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "SuggestionType")
+public enum SuggestionType {
+    TITLE,
+    LOCATION,
+    CATEGORY,
+}
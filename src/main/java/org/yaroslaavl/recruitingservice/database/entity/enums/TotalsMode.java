@@ -0,0 +1,10 @@
+package org.yaroslaavl.recruitingservice.database.entity.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "TotalsMode")
+public enum TotalsMode {
+    EXACT,
+    ESTIMATED,
+    NONE,
+}
@@ -0,0 +1,10 @@
+package org.yaroslaavl.recruitingservice.database.entity.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "VacancySearchMode")
+public enum VacancySearchMode {
+    LIKE,
+    FULL_TEXT,
+    TRIGRAM,
+}
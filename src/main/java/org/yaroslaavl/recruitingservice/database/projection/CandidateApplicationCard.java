@@ -0,0 +1,22 @@
+package org.yaroslaavl.recruitingservice.database.projection;
+
+import org.yaroslaavl.recruitingservice.database.entity.enums.RecruitingSystemStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The columns of an application and its vacancy shown in the candidate's application list.
+ * The cover letter and the vacancy description are not selected.
+ */
+public record CandidateApplicationCard(
+        UUID id,
+        UUID vacancyId,
+        String vacancyTitle,
+        UUID companyId,
+        String location,
+        LocalDateTime vacancyCreatedAt,
+        RecruitingSystemStatus status,
+        LocalDateTime appliedAt
+) {
+}
@@ -0,0 +1,12 @@
+package org.yaroslaavl.recruitingservice.database.projection;
+
+import java.util.UUID;
+
+/**
+ * The number of applications received by a vacancy.
+ */
+public record VacancyApplicationCount(
+        UUID vacancyId,
+        long applicationCount
+) {
+}
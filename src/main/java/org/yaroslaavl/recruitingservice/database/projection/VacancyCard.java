@@ -0,0 +1,29 @@
+package org.yaroslaavl.recruitingservice.database.projection;
+
+import org.yaroslaavl.recruitingservice.database.entity.enums.ContractType;
+import org.yaroslaavl.recruitingservice.database.entity.enums.PositionLevel;
+import org.yaroslaavl.recruitingservice.database.entity.enums.WorkMode;
+import org.yaroslaavl.recruitingservice.database.entity.enums.Workload;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The columns of a vacancy shown on a list card. Description, requirements and the
+ * unresolved report count are not selected.
+ */
+public record VacancyCard(
+        UUID id,
+        UUID companyId,
+        String categoryName,
+        String title,
+        ContractType contractType,
+        WorkMode workMode,
+        PositionLevel positionLevel,
+        Workload workload,
+        String location,
+        Integer salaryFrom,
+        Integer salaryTo,
+        LocalDateTime createdAt
+) {
+}
@@ -2,12 +2,17 @@ package org.yaroslaavl.recruitingservice.database.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.yaroslaavl.recruitingservice.database.entity.Application;
 import org.yaroslaavl.recruitingservice.database.entity.enums.RecruitingSystemStatus;
+import org.yaroslaavl.recruitingservice.database.projection.CandidateApplicationCard;
+import org.yaroslaavl.recruitingservice.database.projection.VacancyApplicationCount;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -18,17 +23,56 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
 
     Optional<Application> findByVacancyIdAndCandidateId(UUID vacancyId, String cvId);
 
-    @Query("""
+    @Query(value = """
     SELECT app FROM Application app
+    LEFT JOIN CandidateProfile cp ON cp.userId = app.candidateId
+    WHERE app.vacancy.id = :vacancyId
+    AND (:status IS NULL OR app.status = :status)
+    AND (:salary IS NULL OR cp.salary <= :salary)
+    AND (:workMode IS NULL OR cp.workMode = :workMode)
+    AND (:availableHoursPerWeek IS NULL OR cp.availableHoursPerWeek >= :availableHoursPerWeek)
+    AND (CAST(:availableFrom AS LocalDate) IS NULL OR cp.availableFrom <= :availableFrom)
+    """, countQuery = """
+    SELECT COUNT(app) FROM Application app
+    LEFT JOIN CandidateProfile cp ON cp.userId = app.candidateId
     WHERE app.vacancy.id = :vacancyId
     AND (:status IS NULL OR app.status = :status)
-    AND (:userFilteredIds IS NULL OR app.candidateId IN (:userFilteredIds))
+    AND (:salary IS NULL OR cp.salary <= :salary)
+    AND (:workMode IS NULL OR cp.workMode = :workMode)
+    AND (:availableHoursPerWeek IS NULL OR cp.availableHoursPerWeek >= :availableHoursPerWeek)
+    AND (CAST(:availableFrom AS LocalDate) IS NULL OR cp.availableFrom <= :availableFrom)
     """)
-    Page<Application> findApplicationsByVacancyIdAndStatus(UUID vacancyId, RecruitingSystemStatus status, List<String> userFilteredIds, Pageable pageable);
+    Page<Application> findApplicationsByVacancyIdAndStatus(UUID vacancyId,
+                                                           RecruitingSystemStatus status,
+                                                           Integer salary,
+                                                           String workMode,
+                                                           Integer availableHoursPerWeek,
+                                                           LocalDate availableFrom,
+                                                           Pageable pageable);
 
     @Query(value = """
     SELECT app FROM Application app
-    JOIN FETCH app.vacancy v
+    LEFT JOIN CandidateProfile cp ON cp.userId = app.candidateId
+    WHERE app.vacancy.id = :vacancyId
+    AND (:status IS NULL OR app.status = :status)
+    AND (:salary IS NULL OR cp.salary <= :salary)
+    AND (:workMode IS NULL OR cp.workMode = :workMode)
+    AND (:availableHoursPerWeek IS NULL OR cp.availableHoursPerWeek >= :availableHoursPerWeek)
+    AND (CAST(:availableFrom AS LocalDate) IS NULL OR cp.availableFrom <= :availableFrom)
+    """)
+    Slice<Application> sliceApplicationsByVacancyIdAndStatus(UUID vacancyId,
+                                                             RecruitingSystemStatus status,
+                                                             Integer salary,
+                                                             String workMode,
+                                                             Integer availableHoursPerWeek,
+                                                             LocalDate availableFrom,
+                                                             Pageable pageable);
+
+    @Query(value = """
+    SELECT new org.yaroslaavl.recruitingservice.database.projection.CandidateApplicationCard(
+        app.id, v.id, v.title, v.companyId, v.location, v.createdAt, app.status, app.appliedAt)
+    FROM Application app
+    JOIN app.vacancy v
     WHERE app.candidateId = :candidateId
     ORDER BY app.appliedAt DESC
     """, countQuery = """
@@ -36,13 +80,25 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
     JOIN app.vacancy v
     WHERE app.candidateId = :candidateId
     """)
-    Page<Application> findApplicationsByCandidateId(String candidateId, Pageable pageable);
+    Page<CandidateApplicationCard> findApplicationsByCandidateId(String candidateId, Pageable pageable);
+
+    @Query(value = """
+    SELECT new org.yaroslaavl.recruitingservice.database.projection.CandidateApplicationCard(
+        app.id, v.id, v.title, v.companyId, v.location, v.createdAt, app.status, app.appliedAt)
+    FROM Application app
+    JOIN app.vacancy v
+    WHERE app.candidateId = :candidateId
+    ORDER BY app.appliedAt DESC
+    """)
+    Slice<CandidateApplicationCard> sliceApplicationsByCandidateId(String candidateId, Pageable pageable);
 
     @Query("""
-    SELECT COUNT(app) FROM Application app
-    WHERE app.vacancy.id = :vacancyId
+    SELECT new org.yaroslaavl.recruitingservice.database.projection.VacancyApplicationCount(app.vacancy.id, COUNT(app))
+    FROM Application app
+    WHERE app.vacancy.id IN (:vacancyIds)
+    GROUP BY app.vacancy.id
     """)
-    int findApplicationsByVacancyId(UUID vacancyId);
+    List<VacancyApplicationCount> countApplicationsByVacancyIds(Collection<UUID> vacancyIds);
 
     @Query("""
     SELECT app FROM Application app
@@ -0,0 +1,38 @@
+package org.yaroslaavl.recruitingservice.database.repository;
+
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.yaroslaavl.recruitingservice.database.entity.CandidateProfile;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Repository
+public interface CandidateProfileRepository extends JpaRepository<CandidateProfile, String> {
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+    INSERT INTO recruiting_data.candidate_profile
+        (user_id, display_name, salary, work_mode, available_hours_per_week, available_from, changed_at)
+    VALUES (:userId, :displayName, :salary, :workMode, :availableHoursPerWeek, :availableFrom, :changedAt)
+    ON CONFLICT (user_id) DO UPDATE SET
+        display_name = EXCLUDED.display_name,
+        salary = EXCLUDED.salary,
+        work_mode = EXCLUDED.work_mode,
+        available_hours_per_week = EXCLUDED.available_hours_per_week,
+        available_from = EXCLUDED.available_from,
+        changed_at = EXCLUDED.changed_at
+    WHERE recruiting_data.candidate_profile.changed_at < EXCLUDED.changed_at
+    """, nativeQuery = true)
+    int upsertIfNewer(String userId,
+                      String displayName,
+                      Integer salary,
+                      String workMode,
+                      Integer availableHoursPerWeek,
+                      LocalDate availableFrom,
+                      Instant changedAt);
+}
@@ -9,7 +9,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface CategoryRepository extends JpaRepository<Category, UUID> {
+public interface CategoryRepository extends JpaRepository<Category, UUID>, TrigramSearchRepository<Category, UUID> {
 
     @Query("""
            SELECT c FROM Category c
@@ -17,4 +17,12 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
            ORDER BY c.name ASC
            """)
     List<Category> findFilteredCategories(String searchName);
+
+    @Query(value = """
+           SELECT c.* FROM recruiting_data.category c
+           WHERE LOWER(c.name) LIKE CONCAT('%', LOWER(:searchName), '%')
+           OR LOWER(:searchName) <% LOWER(c.name)
+           ORDER BY word_similarity(LOWER(:searchName), LOWER(c.name)) DESC, c.name ASC
+           """, nativeQuery = true)
+    List<Category> findSimilarCategories(String searchName);
 }
@@ -2,6 +2,7 @@ package org.yaroslaavl.recruitingservice.database.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -45,6 +46,13 @@ public interface ReportSystemRepository extends JpaRepository<ReportSystem, UUID
     """)
     Page<ReportSystem> findReportSystemsByFilteredStatus(RecruitingSystemStatus status, Pageable pageable);
 
+    @Query(value = """
+    SELECT rs FROM ReportSystem rs
+    WHERE (:status IS NULL OR rs.status = :status)
+    ORDER BY rs.createdAt DESC
+    """)
+    Slice<ReportSystem> sliceReportSystemsByFilteredStatus(RecruitingSystemStatus status, Pageable pageable);
+
     Optional<ReportSystem> findReportSystemsByUserIdAndId(String userId, UUID id);
 
     @Query(value = """
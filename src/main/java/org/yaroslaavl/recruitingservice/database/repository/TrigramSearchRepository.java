@@ -0,0 +1,23 @@
+package org.yaroslaavl.recruitingservice.database.repository;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+/**
+ * Shared by the repositories whose native queries match text with the pg_trgm {@code <%} operator.
+ */
+@NoRepositoryBean
+public interface TrigramSearchRepository<T, ID> extends Repository<T, ID> {
+
+    /**
+     * Sets {@code pg_trgm.word_similarity_threshold} used by {@code <%} for the rest of the current transaction.
+     *
+     * @param threshold the threshold between 0 and 1
+     * @return the threshold now in effect
+     */
+    @Query(value = """
+    SELECT set_config('pg_trgm.word_similarity_threshold', :threshold, true)
+    """, nativeQuery = true)
+    String applyWordSimilarityThreshold(String threshold);
+}
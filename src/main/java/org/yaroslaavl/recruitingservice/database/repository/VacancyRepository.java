@@ -3,6 +3,7 @@ package org.yaroslaavl.recruitingservice.database.repository;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -11,16 +12,20 @@ import org.yaroslaavl.recruitingservice.database.entity.enums.ContractType;
 import org.yaroslaavl.recruitingservice.database.entity.enums.PositionLevel;
 import org.yaroslaavl.recruitingservice.database.entity.enums.WorkMode;
 import org.yaroslaavl.recruitingservice.database.entity.enums.Workload;
+import org.yaroslaavl.recruitingservice.database.projection.VacancyCard;
+import org.yaroslaavl.recruitingservice.service.search.IndexedVacancy;
+import org.yaroslaavl.recruitingservice.service.search.VacancyFacetRow;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 @Repository
-public interface VacancyRepository extends JpaRepository<Vacancy, UUID> {
+public interface VacancyRepository extends JpaRepository<Vacancy, UUID>, TrigramSearchRepository<Vacancy, UUID> {
 
     @Query("""
     SELECT v FROM Vacancy v
@@ -39,8 +44,12 @@ public interface VacancyRepository extends JpaRepository<Vacancy, UUID> {
     List<Vacancy> findAllActiveVacancies();
 
     @Query(value = """
-    SELECT v FROM Vacancy v
-    JOIN FETCH v.category cat
+    SELECT new org.yaroslaavl.recruitingservice.database.projection.VacancyCard(
+        v.id, v.companyId, cat.name, v.title,
+        v.contractType, v.workMode, v.positionLevel, v.workload,
+        v.location, v.salaryFrom, v.salaryTo, v.createdAt)
+    FROM Vacancy v
+    JOIN v.category cat
     WHERE v.status = org.yaroslaavl.recruitingservice.database.entity.enums.VacancyStatus.ENABLED
     AND (:textSearch = ""
         OR LOWER(v.title) LIKE CONCAT('%', LOWER(:textSearch), '%')
@@ -51,8 +60,12 @@ public interface VacancyRepository extends JpaRepository<Vacancy, UUID> {
     AND (:workMode IS NULL OR v.workMode = :workMode)
     AND (:positionLevel IS NULL OR v.positionLevel = :positionLevel)
     AND (:workload IS NULL OR v.workload = :workload)
-    AND (:salaryFrom IS NULL OR v.salaryFrom >= :salaryFrom)
-    AND (:salaryTo IS NULL OR v.salaryTo <= :salaryTo)
+    AND (:salaryFrom IS NULL
+        OR (:salaryMode = 'OVERLAPS' AND v.salaryTo >= :salaryFrom)
+        OR (:salaryMode <> 'OVERLAPS' AND v.salaryFrom >= :salaryFrom))
+    AND (:salaryTo IS NULL
+        OR (:salaryMode = 'OVERLAPS' AND v.salaryFrom <= :salaryTo)
+        OR (:salaryMode <> 'OVERLAPS' AND v.salaryTo <= :salaryTo))
     AND (v.createdAt BETWEEN :selectedDateStart AND :selectedDateEnd)
     ORDER BY v.createdAt DESC, cat.name ASC
     """,
@@ -69,24 +82,368 @@ public interface VacancyRepository extends JpaRepository<Vacancy, UUID> {
     AND (:workMode IS NULL OR v.workMode = :workMode)
     AND (:positionLevel IS NULL OR v.positionLevel = :positionLevel)
     AND (:workload IS NULL OR v.workload = :workload)
-    AND (:salaryFrom IS NULL OR v.salaryFrom >= :salaryFrom)
-    AND (:salaryTo IS NULL OR v.salaryTo <= :salaryTo)
+    AND (:salaryFrom IS NULL
+        OR (:salaryMode = 'OVERLAPS' AND v.salaryTo >= :salaryFrom)
+        OR (:salaryMode <> 'OVERLAPS' AND v.salaryFrom >= :salaryFrom))
+    AND (:salaryTo IS NULL
+        OR (:salaryMode = 'OVERLAPS' AND v.salaryFrom <= :salaryTo)
+        OR (:salaryMode <> 'OVERLAPS' AND v.salaryTo <= :salaryTo))
     AND (v.createdAt BETWEEN :selectedDateStart AND :selectedDateEnd)
     """)
-    Page<Vacancy> getFilteredVacancies(String textSearch,
+    Page<VacancyCard> getFilteredVacancies(String textSearch,
                                       ContractType contractType,
                                       WorkMode workMode,
                                       PositionLevel positionLevel,
                                       Workload workload,
                                       Integer salaryFrom,
                                       Integer salaryTo,
+                                      String salaryMode,
                                       @NotNull LocalDateTime selectedDateStart,
                                       @NotNull LocalDateTime selectedDateEnd,
                                       Pageable pageable);
 
     @Query(value = """
-    SELECT v FROM Vacancy v
-    JOIN FETCH v.category cat
+    SELECT new org.yaroslaavl.recruitingservice.database.projection.VacancyCard(
+        v.id, v.companyId, cat.name, v.title,
+        v.contractType, v.workMode, v.positionLevel, v.workload,
+        v.location, v.salaryFrom, v.salaryTo, v.createdAt)
+    FROM Vacancy v
+    JOIN v.category cat
+    WHERE v.status = org.yaroslaavl.recruitingservice.database.entity.enums.VacancyStatus.ENABLED
+    AND (:textSearch = ""
+        OR LOWER(v.title) LIKE CONCAT('%', LOWER(:textSearch), '%')
+        OR LOWER(v.location) LIKE CONCAT('%', LOWER(:textSearch), '%')
+        OR LOWER(cat.name) LIKE CONCAT('%', LOWER(:textSearch), '%')
+        )
+    AND (:contractType IS NULL OR v.contractType = :contractType)
+    AND (:workMode IS NULL OR v.workMode = :workMode)
+    AND (:positionLevel IS NULL OR v.positionLevel = :positionLevel)
+    AND (:workload IS NULL OR v.workload = :workload)
+    AND (:salaryFrom IS NULL
+        OR (:salaryMode = 'OVERLAPS' AND v.salaryTo >= :salaryFrom)
+        OR (:salaryMode <> 'OVERLAPS' AND v.salaryFrom >= :salaryFrom))
+    AND (:salaryTo IS NULL
+        OR (:salaryMode = 'OVERLAPS' AND v.salaryFrom <= :salaryTo)
+        OR (:salaryMode <> 'OVERLAPS' AND v.salaryTo <= :salaryTo))
+    AND (v.createdAt BETWEEN :selectedDateStart AND :selectedDateEnd)
+    ORDER BY v.createdAt DESC, cat.name ASC
+    """)
+    Slice<VacancyCard> sliceFilteredVacancies(String textSearch,
+                                         ContractType contractType,
+                                         WorkMode workMode,
+                                         PositionLevel positionLevel,
+                                         Workload workload,
+                                         Integer salaryFrom,
+                                         Integer salaryTo,
+                                         String salaryMode,
+                                         @NotNull LocalDateTime selectedDateStart,
+                                         @NotNull LocalDateTime selectedDateEnd,
+                                         Pageable pageable);
+
+    @Query(value = """
+    SELECT v.id FROM recruiting_data.vacancy v
+    WHERE v.status = 'ENABLED'
+    AND v.search_vector @@ websearch_to_tsquery('english', :textSearch)
+    AND (CAST(:contractType AS VARCHAR) IS NULL OR v.contract_type = CAST(:contractType AS VARCHAR))
+    AND (CAST(:workMode AS VARCHAR) IS NULL OR v.work_mode = CAST(:workMode AS VARCHAR))
+    AND (CAST(:positionLevel AS VARCHAR) IS NULL OR v.position_level = CAST(:positionLevel AS VARCHAR))
+    AND (CAST(:workload AS VARCHAR) IS NULL OR v.workload = CAST(:workload AS VARCHAR))
+    AND (CAST(:salaryFrom AS INTEGER) IS NULL
+        OR (:salaryMode = 'OVERLAPS' AND v.salary_to >= CAST(:salaryFrom AS INTEGER))
+        OR (:salaryMode <> 'OVERLAPS' AND v.salary_from >= CAST(:salaryFrom AS INTEGER)))
+    AND (CAST(:salaryTo AS INTEGER) IS NULL
+        OR (:salaryMode = 'OVERLAPS' AND v.salary_from <= CAST(:salaryTo AS INTEGER))
+        OR (:salaryMode <> 'OVERLAPS' AND v.salary_to <= CAST(:salaryTo AS INTEGER)))
+    AND (v.created_at BETWEEN :selectedDateStart AND :selectedDateEnd)
+    ORDER BY ts_rank(v.search_vector, websearch_to_tsquery('english', :textSearch)) DESC, v.created_at DESC
+    """,
+    countQuery = """
+    SELECT COUNT(v.id) FROM recruiting_data.vacancy v
+    WHERE v.status = 'ENABLED'
+    AND v.search_vector @@ websearch_to_tsquery('english', :textSearch)
+    AND (CAST(:contractType AS VARCHAR) IS NULL OR v.contract_type = CAST(:contractType AS VARCHAR))
+    AND (CAST(:workMode AS VARCHAR) IS NULL OR v.work_mode = CAST(:workMode AS VARCHAR))
+    AND (CAST(:positionLevel AS VARCHAR) IS NULL OR v.position_level = CAST(:positionLevel AS VARCHAR))
+    AND (CAST(:workload AS VARCHAR) IS NULL OR v.workload = CAST(:workload AS VARCHAR))
+    AND (CAST(:salaryFrom AS INTEGER) IS NULL
+        OR (:salaryMode = 'OVERLAPS' AND v.salary_to >= CAST(:salaryFrom AS INTEGER))
+        OR (:salaryMode <> 'OVERLAPS' AND v.salary_from >= CAST(:salaryFrom AS INTEGER)))
+    AND (CAST(:salaryTo AS INTEGER) IS NULL
+        OR (:salaryMode = 'OVERLAPS' AND v.salary_from <= CAST(:salaryTo AS INTEGER))
+        OR (:salaryMode <> 'OVERLAPS' AND v.salary_to <= CAST(:salaryTo AS INTEGER)))
+    AND (v.created_at BETWEEN :selectedDateStart AND :selectedDateEnd)
+    """,
+    nativeQuery = true)
+    Page<UUID> getFullTextFilteredVacancyIds(String textSearch,
+                                             String contractType,
+                                             String workMode,
+                                             String positionLevel,
+                                             String workload,
+                                             Integer salaryFrom,
+                                             Integer salaryTo,
+                                             String salaryMode,
+                                             @NotNull LocalDateTime selectedDateStart,
+                                             @NotNull LocalDateTime selectedDateEnd,
+                                             Pageable pageable);
+
+    @Query(value = """
+    SELECT v.id FROM recruiting_data.vacancy v
+    WHERE v.status = 'ENABLED'
+    AND v.search_vector @@ websearch_to_tsquery('english', :textSearch)
+    AND (CAST(:contractType AS VARCHAR) IS NULL OR v.contract_type = CAST(:contractType AS VARCHAR))
+    AND (CAST(:workMode AS VARCHAR) IS NULL OR v.work_mode = CAST(:workMode AS VARCHAR))
+    AND (CAST(:positionLevel AS VARCHAR) IS NULL OR v.position_level = CAST(:positionLevel AS VARCHAR))
+    AND (CAST(:workload AS VARCHAR) IS NULL OR v.workload = CAST(:workload AS VARCHAR))
+    AND (CAST(:salaryFrom AS INTEGER) IS NULL
+        OR (:salaryMode = 'OVERLAPS' AND v.salary_to >= CAST(:salaryFrom AS INTEGER))
+        OR (:salaryMode <> 'OVERLAPS' AND v.salary_from >= CAST(:salaryFrom AS INTEGER)))
+    AND (CAST(:salaryTo AS INTEGER) IS NULL
+        OR (:salaryMode = 'OVERLAPS' AND v.salary_from <= CAST(:salaryTo AS INTEGER))
+        OR (:salaryMode <> 'OVERLAPS' AND v.salary_to <= CAST(:salaryTo AS INTEGER)))
+    AND (v.created_at BETWEEN :selectedDateStart AND :selectedDateEnd)
+    ORDER BY ts_rank(v.search_vector, websearch_to_tsquery('english', :textSearch)) DESC, v.created_at DESC
+    """, nativeQuery = true)
+    Slice<UUID> sliceFullTextFilteredVacancyIds(String textSearch,
+                                                String contractType,
+                                                String workMode,
+                                                String positionLevel,
+                                                String workload,
+                                                Integer salaryFrom,
+                                                Integer salaryTo,
+                                                String salaryMode,
+                                                @NotNull LocalDateTime selectedDateStart,
+                                                @NotNull LocalDateTime selectedDateEnd,
+                                                Pageable pageable);
+
+    @Query(value = """
+    SELECT v.id FROM recruiting_data.vacancy v
+    JOIN recruiting_data.category cat ON cat.id = v.category_id
+    WHERE v.status = 'ENABLED'
+    AND (LOWER(v.title) LIKE CONCAT('%', LOWER(:textSearch), '%')
+        OR LOWER(:textSearch) <% LOWER(v.title)
+        OR LOWER(v.location) LIKE CONCAT('%', LOWER(:textSearch), '%')
+        OR LOWER(:textSearch) <% LOWER(v.location)
+        OR v.category_id = ANY(ARRAY(
+            SELECT c.id FROM recruiting_data.category c
+            WHERE LOWER(c.name) LIKE CONCAT('%', LOWER(:textSearch), '%')
+            OR LOWER(:textSearch) <% LOWER(c.name)))
+        )
+    AND (CAST(:contractType AS VARCHAR) IS NULL OR v.contract_type = CAST(:contractType AS VARCHAR))
+    AND (CAST(:workMode AS VARCHAR) IS NULL OR v.work_mode = CAST(:workMode AS VARCHAR))
+    AND (CAST(:positionLevel AS VARCHAR) IS NULL OR v.position_level = CAST(:positionLevel AS VARCHAR))
+    AND (CAST(:workload AS VARCHAR) IS NULL OR v.workload = CAST(:workload AS VARCHAR))
+    AND (CAST(:salaryFrom AS INTEGER) IS NULL
+        OR (:salaryMode = 'OVERLAPS' AND v.salary_to >= CAST(:salaryFrom AS INTEGER))
+        OR (:salaryMode <> 'OVERLAPS' AND v.salary_from >= CAST(:salaryFrom AS INTEGER)))
+    AND (CAST(:salaryTo AS INTEGER) IS NULL
+        OR (:salaryMode = 'OVERLAPS' AND v.salary_from <= CAST(:salaryTo AS INTEGER))
+        OR (:salaryMode <> 'OVERLAPS' AND v.salary_to <= CAST(:salaryTo AS INTEGER)))
+    AND (v.created_at BETWEEN :selectedDateStart AND :selectedDateEnd)
+    ORDER BY GREATEST(
+        word_similarity(LOWER(:textSearch), LOWER(v.title)),
+        word_similarity(LOWER(:textSearch), LOWER(COALESCE(v.location, ''))),
+        word_similarity(LOWER(:textSearch), LOWER(cat.name))) DESC, v.created_at DESC
+    """,
+    countQuery = """
+    SELECT COUNT(v.id) FROM recruiting_data.vacancy v
+    WHERE v.status = 'ENABLED'
+    AND (LOWER(v.title) LIKE CONCAT('%', LOWER(:textSearch), '%')
+        OR LOWER(:textSearch) <% LOWER(v.title)
+        OR LOWER(v.location) LIKE CONCAT('%', LOWER(:textSearch), '%')
+        OR LOWER(:textSearch) <% LOWER(v.location)
+        OR v.category_id = ANY(ARRAY(
+            SELECT c.id FROM recruiting_data.category c
+            WHERE LOWER(c.name) LIKE CONCAT('%', LOWER(:textSearch), '%')
+            OR LOWER(:textSearch) <% LOWER(c.name)))
+        )
+    AND (CAST(:contractType AS VARCHAR) IS NULL OR v.contract_type = CAST(:contractType AS VARCHAR))
+    AND (CAST(:workMode AS VARCHAR) IS NULL OR v.work_mode = CAST(:workMode AS VARCHAR))
+    AND (CAST(:positionLevel AS VARCHAR) IS NULL OR v.position_level = CAST(:positionLevel AS VARCHAR))
+    AND (CAST(:workload AS VARCHAR) IS NULL OR v.workload = CAST(:workload AS VARCHAR))
+    AND (CAST(:salaryFrom AS INTEGER) IS NULL
+        OR (:salaryMode = 'OVERLAPS' AND v.salary_to >= CAST(:salaryFrom AS INTEGER))
+        OR (:salaryMode <> 'OVERLAPS' AND v.salary_from >= CAST(:salaryFrom AS INTEGER)))
+    AND (CAST(:salaryTo AS INTEGER) IS NULL
+        OR (:salaryMode = 'OVERLAPS' AND v.salary_from <= CAST(:salaryTo AS INTEGER))
+        OR (:salaryMode <> 'OVERLAPS' AND v.salary_to <= CAST(:salaryTo AS INTEGER)))
+    AND (v.created_at BETWEEN :selectedDateStart AND :selectedDateEnd)
+    """,
+    nativeQuery = true)
+    Page<UUID> getTrigramFilteredVacancyIds(String textSearch,
+                                            String contractType,
+                                            String workMode,
+                                            String positionLevel,
+                                            String workload,
+                                            Integer salaryFrom,
+                                            Integer salaryTo,
+                                            String salaryMode,
+                                            @NotNull LocalDateTime selectedDateStart,
+                                            @NotNull LocalDateTime selectedDateEnd,
+                                            Pageable pageable);
+
+    @Query(value = """
+    SELECT v.id FROM recruiting_data.vacancy v
+    JOIN recruiting_data.category cat ON cat.id = v.category_id
+    WHERE v.status = 'ENABLED'
+    AND (LOWER(v.title) LIKE CONCAT('%', LOWER(:textSearch), '%')
+        OR LOWER(:textSearch) <% LOWER(v.title)
+        OR LOWER(v.location) LIKE CONCAT('%', LOWER(:textSearch), '%')
+        OR LOWER(:textSearch) <% LOWER(v.location)
+        OR v.category_id = ANY(ARRAY(
+            SELECT c.id FROM recruiting_data.category c
+            WHERE LOWER(c.name) LIKE CONCAT('%', LOWER(:textSearch), '%')
+            OR LOWER(:textSearch) <% LOWER(c.name)))
+        )
+    AND (CAST(:contractType AS VARCHAR) IS NULL OR v.contract_type = CAST(:contractType AS VARCHAR))
+    AND (CAST(:workMode AS VARCHAR) IS NULL OR v.work_mode = CAST(:workMode AS VARCHAR))
+    AND (CAST(:positionLevel AS VARCHAR) IS NULL OR v.position_level = CAST(:positionLevel AS VARCHAR))
+    AND (CAST(:workload AS VARCHAR) IS NULL OR v.workload = CAST(:workload AS VARCHAR))
+    AND (CAST(:salaryFrom AS INTEGER) IS NULL
+        OR (:salaryMode = 'OVERLAPS' AND v.salary_to >= CAST(:salaryFrom AS INTEGER))
+        OR (:salaryMode <> 'OVERLAPS' AND v.salary_from >= CAST(:salaryFrom AS INTEGER)))
+    AND (CAST(:salaryTo AS INTEGER) IS NULL
+        OR (:salaryMode = 'OVERLAPS' AND v.salary_from <= CAST(:salaryTo AS INTEGER))
+        OR (:salaryMode <> 'OVERLAPS' AND v.salary_to <= CAST(:salaryTo AS INTEGER)))
+    AND (v.created_at BETWEEN :selectedDateStart AND :selectedDateEnd)
+    ORDER BY GREATEST(
+        word_similarity(LOWER(:textSearch), LOWER(v.title)),
+        word_similarity(LOWER(:textSearch), LOWER(COALESCE(v.location, ''))),
+        word_similarity(LOWER(:textSearch), LOWER(cat.name))) DESC, v.created_at DESC
+    """, nativeQuery = true)
+    Slice<UUID> sliceTrigramFilteredVacancyIds(String textSearch,
+                                               String contractType,
+                                               String workMode,
+                                               String positionLevel,
+                                               String workload,
+                                               Integer salaryFrom,
+                                               Integer salaryTo,
+                                               String salaryMode,
+                                               @NotNull LocalDateTime selectedDateStart,
+                                               @NotNull LocalDateTime selectedDateEnd,
+                                               Pageable pageable);
+
+    @Query(value = """
+    SELECT v.id FROM recruiting_data.vacancy v
+    WHERE v.status = 'ENABLED'
+    AND (CAST(:textSearch AS VARCHAR) IS NULL OR v.search_vector @@ websearch_to_tsquery('english', CAST(:textSearch AS VARCHAR)))
+    AND (CAST(:contractType AS VARCHAR) IS NULL OR v.contract_type = CAST(:contractType AS VARCHAR))
+    AND (CAST(:workMode AS VARCHAR) IS NULL OR v.work_mode = CAST(:workMode AS VARCHAR))
+    AND (CAST(:positionLevel AS VARCHAR) IS NULL OR v.position_level = CAST(:positionLevel AS VARCHAR))
+    AND (CAST(:workload AS VARCHAR) IS NULL OR v.workload = CAST(:workload AS VARCHAR))
+    AND (CAST(:salaryFrom AS INTEGER) IS NULL
+        OR (:salaryMode = 'OVERLAPS' AND v.salary_to >= CAST(:salaryFrom AS INTEGER))
+        OR (:salaryMode <> 'OVERLAPS' AND v.salary_from >= CAST(:salaryFrom AS INTEGER)))
+    AND (CAST(:salaryTo AS INTEGER) IS NULL
+        OR (:salaryMode = 'OVERLAPS' AND v.salary_from <= CAST(:salaryTo AS INTEGER))
+        OR (:salaryMode <> 'OVERLAPS' AND v.salary_to <= CAST(:salaryTo AS INTEGER)))
+    AND (v.created_at BETWEEN :selectedDateStart AND :selectedDateEnd)
+    AND (v.created_at, v.id) < (:cursorCreatedAt, :cursorId)
+    ORDER BY v.created_at DESC, v.id DESC
+    """, nativeQuery = true)
+    List<UUID> scrollFilteredVacancyIds(String textSearch,
+                                        String contractType,
+                                        String workMode,
+                                        String positionLevel,
+                                        String workload,
+                                        Integer salaryFrom,
+                                        Integer salaryTo,
+                                        String salaryMode,
+                                        @NotNull LocalDateTime selectedDateStart,
+                                        @NotNull LocalDateTime selectedDateEnd,
+                                        @NotNull LocalDateTime cursorCreatedAt,
+                                        @NotNull UUID cursorId,
+                                        Pageable pageable);
+
+    @Query(value = """
+    SELECT v.id FROM recruiting_data.vacancy v
+    WHERE v.company_id = :companyId
+    AND v.status = 'ENABLED'
+    AND (v.created_at, v.id) < (:cursorCreatedAt, :cursorId)
+    ORDER BY v.created_at DESC, v.id DESC
+    """, nativeQuery = true)
+    List<UUID> scrollCompanyVacancyIds(UUID companyId,
+                                       @NotNull LocalDateTime cursorCreatedAt,
+                                       @NotNull UUID cursorId,
+                                       Pageable pageable);
+
+    @Query("""
+    SELECT new org.yaroslaavl.recruitingservice.database.projection.VacancyCard(
+        v.id, v.companyId, cat.name, v.title,
+        v.contractType, v.workMode, v.positionLevel, v.workload,
+        v.location, v.salaryFrom, v.salaryTo, v.createdAt)
+    FROM Vacancy v
+    JOIN v.category cat
+    WHERE v.id IN (:ids)
+    """)
+    List<VacancyCard> getVacancyCardsByIds(Collection<UUID> ids);
+
+    @Query(value = """
+    SELECT v.contract_type AS "contractType",
+           v.work_mode AS "workMode",
+           v.position_level AS "positionLevel",
+           v.workload AS "workload",
+           LEAST(GREATEST(v.salary_from, 0) / CAST(:salaryBucketSize AS INTEGER), CAST(:salaryBucketCount AS INTEGER) - 1) AS "salaryBucket",
+           COALESCE((CAST(:salaryFrom AS INTEGER) IS NULL
+               OR (:salaryMode = 'OVERLAPS' AND v.salary_to >= CAST(:salaryFrom AS INTEGER))
+               OR (:salaryMode <> 'OVERLAPS' AND v.salary_from >= CAST(:salaryFrom AS INTEGER)))
+           AND (CAST(:salaryTo AS INTEGER) IS NULL
+               OR (:salaryMode = 'OVERLAPS' AND v.salary_from <= CAST(:salaryTo AS INTEGER))
+               OR (:salaryMode <> 'OVERLAPS' AND v.salary_to <= CAST(:salaryTo AS INTEGER))), false) AS "salaryMatches",
+           COUNT(*) AS "vacancies"
+    FROM recruiting_data.vacancy v
+    JOIN recruiting_data.category cat ON cat.id = v.category_id
+    WHERE v.status = 'ENABLED'
+    AND (:textSearch = ''
+        OR (:searchMode = 'FULL_TEXT' AND v.search_vector @@ websearch_to_tsquery('english', :textSearch))
+        OR (:searchMode = 'TRIGRAM' AND (LOWER(:textSearch) <% LOWER(v.title)
+            OR LOWER(:textSearch) <% LOWER(v.location)
+            OR LOWER(:textSearch) <% LOWER(cat.name)))
+        OR ((:searchMode = 'LIKE' OR :searchMode = 'TRIGRAM') AND (LOWER(v.title) LIKE CONCAT('%', LOWER(:textSearch), '%')
+            OR LOWER(v.location) LIKE CONCAT('%', LOWER(:textSearch), '%')
+            OR LOWER(cat.name) LIKE CONCAT('%', LOWER(:textSearch), '%')))
+        )
+    AND (v.created_at BETWEEN :selectedDateStart AND :selectedDateEnd)
+    GROUP BY v.contract_type, v.work_mode, v.position_level, v.workload, "salaryBucket", "salaryMatches"
+    """, nativeQuery = true)
+    List<VacancyFacetRow> getVacancyFacetRows(String textSearch,
+                                              String searchMode,
+                                              Integer salaryFrom,
+                                              Integer salaryTo,
+                                              String salaryMode,
+                                              int salaryBucketSize,
+                                              int salaryBucketCount,
+                                              @NotNull LocalDateTime selectedDateStart,
+                                              @NotNull LocalDateTime selectedDateEnd);
+
+    @Query("""
+    SELECT new org.yaroslaavl.recruitingservice.service.search.IndexedVacancy(
+        v.id, v.companyId, v.title, v.location, cat.name,
+        v.contractType, v.workMode, v.positionLevel, v.workload,
+        v.salaryFrom, v.salaryTo, v.status, v.createdAt)
+    FROM Vacancy v
+    JOIN v.category cat
+    WHERE v.status = org.yaroslaavl.recruitingservice.database.entity.enums.VacancyStatus.ENABLED
+    """)
+    List<IndexedVacancy> findAllIndexedVacancies();
+
+    @Query("""
+    SELECT new org.yaroslaavl.recruitingservice.service.search.IndexedVacancy(
+        v.id, v.companyId, v.title, v.location, cat.name,
+        v.contractType, v.workMode, v.positionLevel, v.workload,
+        v.salaryFrom, v.salaryTo, v.status, v.createdAt)
+    FROM Vacancy v
+    JOIN v.category cat
+    WHERE v.id IN (:ids)
+    """)
+    List<IndexedVacancy> findIndexedVacanciesByIds(Collection<UUID> ids);
+
+    @Query(value = """
+    SELECT new org.yaroslaavl.recruitingservice.database.projection.VacancyCard(
+        v.id, v.companyId, cat.name, v.title,
+        v.contractType, v.workMode, v.positionLevel, v.workload,
+        v.location, v.salaryFrom, v.salaryTo, v.createdAt)
+    FROM Vacancy v
+    JOIN v.category cat
     WHERE v.companyId = :companyId
     AND v.status = org.yaroslaavl.recruitingservice.database.entity.enums.VacancyStatus.ENABLED
     ORDER BY v.createdAt DESC, cat.name ASC
@@ -96,7 +453,20 @@ public interface VacancyRepository extends JpaRepository<Vacancy, UUID> {
     WHERE v.companyId = :companyId
     AND v.status = org.yaroslaavl.recruitingservice.database.entity.enums.VacancyStatus.ENABLED
     """)
-    Page<Vacancy> getCompanyVacancies(UUID companyId, Pageable pageable);
+    Page<VacancyCard> getCompanyVacancies(UUID companyId, Pageable pageable);
+
+    @Query(value = """
+    SELECT new org.yaroslaavl.recruitingservice.database.projection.VacancyCard(
+        v.id, v.companyId, cat.name, v.title,
+        v.contractType, v.workMode, v.positionLevel, v.workload,
+        v.location, v.salaryFrom, v.salaryTo, v.createdAt)
+    FROM Vacancy v
+    JOIN v.category cat
+    WHERE v.companyId = :companyId
+    AND v.status = org.yaroslaavl.recruitingservice.database.entity.enums.VacancyStatus.ENABLED
+    ORDER BY v.createdAt DESC, cat.name ASC
+    """)
+    Slice<VacancyCard> sliceCompanyVacancies(UUID companyId, Pageable pageable);
 
     @Query("""
     SELECT v FROM Vacancy v
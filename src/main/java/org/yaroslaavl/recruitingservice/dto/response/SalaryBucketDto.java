@@ -0,0 +1,7 @@
+package org.yaroslaavl.recruitingservice.dto.response;
+
+public record SalaryBucketDto(
+        Integer from,
+        Integer to,
+        long count
+) { }
@@ -0,0 +1,9 @@
+package org.yaroslaavl.recruitingservice.dto.response;
+
+import org.yaroslaavl.recruitingservice.database.entity.enums.SuggestionType;
+
+public record SuggestionDto(
+        String text,
+        SuggestionType type,
+        long vacancies
+) { }
@@ -0,0 +1,18 @@
+package org.yaroslaavl.recruitingservice.dto.response;
+
+import org.yaroslaavl.recruitingservice.database.entity.enums.ContractType;
+import org.yaroslaavl.recruitingservice.database.entity.enums.PositionLevel;
+import org.yaroslaavl.recruitingservice.database.entity.enums.WorkMode;
+import org.yaroslaavl.recruitingservice.database.entity.enums.Workload;
+
+import java.util.List;
+import java.util.Map;
+
+public record VacancyFacetsDto(
+        long totalElements,
+        Map<ContractType, Long> contractTypes,
+        Map<WorkMode, Long> workModes,
+        Map<PositionLevel, Long> positionLevels,
+        Map<Workload, Long> workloads,
+        List<SalaryBucketDto> salaries
+) { }
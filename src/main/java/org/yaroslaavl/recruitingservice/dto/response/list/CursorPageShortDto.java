@@ -0,0 +1,9 @@
+package org.yaroslaavl.recruitingservice.dto.response.list;
+
+import java.util.List;
+
+public record CursorPageShortDto<T>(
+        List<T> allContent,
+        String nextCursor,
+        int size
+) { }
@@ -1,5 +1,9 @@
 package org.yaroslaavl.recruitingservice.dto.response.list;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.yaroslaavl.recruitingservice.database.entity.enums.TotalsMode;
+
 import java.util.List;
 
 public record PageShortDto<T>(
@@ -7,5 +11,25 @@ public record PageShortDto<T>(
         long totalElements,
         long totalPages,
         int page,
-        int size
-) { }
+        int size,
+        boolean hasNext,
+        TotalsMode totals
+) {
+
+    public PageShortDto(List<T> allContent, long totalElements, long totalPages, int page, int size) {
+        this(allContent, totalElements, totalPages, page, size, page + 1L < totalPages, TotalsMode.EXACT);
+    }
+
+    /**
+     * Builds a page from already mapped content and the slice it was read from.
+     * Totals are only known when the slice is a {@link Page}; otherwise they are reported as -1.
+     */
+    public static <T> PageShortDto<T> of(List<T> allContent, Slice<?> slice, TotalsMode totals) {
+        if (slice instanceof Page<?> page) {
+            return new PageShortDto<>(allContent, page.getTotalElements(), page.getTotalPages(),
+                    page.getNumber(), page.getSize(), page.hasNext(), totals);
+        }
+
+        return new PageShortDto<>(allContent, -1, -1, slice.getNumber(), slice.getSize(), slice.hasNext(), totals);
+    }
+}
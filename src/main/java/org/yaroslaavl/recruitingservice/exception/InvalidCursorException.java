@@ -0,0 +1,7 @@
+package org.yaroslaavl.recruitingservice.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.yaroslaavl.recruitingservice.exception;
+
+public class RemoteServiceUnavailableException extends RuntimeException {
+    public RemoteServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,7 @@
 package org.yaroslaavl.recruitingservice.exception.handler;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -9,7 +10,9 @@ import org.yaroslaavl.recruitingservice.dto.response.ReportSystemLimitInfo;
 import org.yaroslaavl.recruitingservice.dto.response.VacancyAlreadyReportedInfo;
 import org.yaroslaavl.recruitingservice.exception.CandidateAlreadyAppliedException;
 import org.yaroslaavl.recruitingservice.exception.ErrorType;
+import org.yaroslaavl.recruitingservice.exception.InvalidCursorException;
 import org.yaroslaavl.recruitingservice.exception.MaxReportsPerTimeSpanException;
+import org.yaroslaavl.recruitingservice.exception.RemoteServiceUnavailableException;
 import org.yaroslaavl.recruitingservice.exception.VacancyAlreadyReportedException;
 import org.yaroslaavl.recruitingservice.exception.response.ErrorResponse;
 
@@ -34,6 +37,14 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    @ExceptionHandler(value = InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse<Void>> handleInvalidCursorException(InvalidCursorException ic) {
+        ErrorResponse<Void> errorResponse =
+                new ErrorResponse<>(ic.getMessage(), null);
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     @ExceptionHandler(CandidateAlreadyAppliedException.class)
     public ResponseEntity<ErrorResponse<AlreadyAppliedInfo>> handleFileStorage(CandidateAlreadyAppliedException fs, HttpServletRequest request) {
         ErrorResponse<AlreadyAppliedInfo> errorResponse =
@@ -41,4 +52,12 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.badRequest().body(errorResponse);
     }
+
+    @ExceptionHandler(value = RemoteServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse<Void>> handleRemoteServiceUnavailableException(RemoteServiceUnavailableException rs) {
+        ErrorResponse<Void> errorResponse =
+                new ErrorResponse<>(rs.getMessage(), null);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
 }
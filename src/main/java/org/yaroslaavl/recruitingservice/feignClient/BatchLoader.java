@@ -0,0 +1,143 @@
+package org.yaroslaavl.recruitingservice.feignClient;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent lookups of a batched remote call.
+ * <p>
+ * Keys requested within {@code window} of the first pending key are merged into a single call of the batch
+ * function, or dispatched as soon as {@code maxBatchSize} keys are pending; every caller then gets its own keys
+ * back out of the merged result. A key that is already being loaded is not requested again, the caller waits
+ * for the load in flight instead. Keys missing from the result of the batch function resolve to null.
+ * <p>
+ * The size of every dispatched batch is published as the {@code batch.loader.keys} summary tagged with the loader name,
+ * its count being the number of remote calls made.
+ */
+@Slf4j
+public class BatchLoader<K, V> {
+
+    private final String name;
+    private final Function<Set<K>, Map<K, V>> batchFunction;
+    private final int maxBatchSize;
+    private final Executor delayedExecutor;
+    private final ExecutorService loadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final DistributionSummary batchSizes;
+
+    private final Map<K, CompletableFuture<V>> inFlight = new HashMap<>();
+    private Batch pending = new Batch();
+
+    public BatchLoader(String name, Duration window, int maxBatchSize,
+                       Function<Set<K>, Map<K, V>> batchFunction, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.batchFunction = batchFunction;
+        this.maxBatchSize = maxBatchSize;
+        this.delayedExecutor = CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS, loadExecutor);
+        this.batchSizes = DistributionSummary.builder("batch.loader.keys")
+                .tag("loader", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the given keys together with the ones requested concurrently by other callers, blocking until all are loaded.
+     * The keys of one caller are never split over several batches unless they exceed the maximum batch size.
+     *
+     * @param keys the keys to load
+     * @return the loaded values by key; keys without a value are left out
+     */
+    public Map<K, V> getAll(Collection<K> keys) {
+        Map<K, CompletableFuture<V>> futures = new HashMap<>(keys.size());
+        List<Batch> opened = new ArrayList<>(1);
+        List<Batch> full = new ArrayList<>(1);
+
+        synchronized (this) {
+            for (K key : keys) {
+                CompletableFuture<V> future = inFlight.get(key);
+
+                if (future == null) {
+                    future = new CompletableFuture<>();
+                    inFlight.put(key, future);
+                    pending.futures.put(key, future);
+
+                    if (pending.futures.size() == 1) {
+                        opened.add(pending);
+                    }
+                    if (pending.futures.size() == maxBatchSize) {
+                        full.add(pending);
+                        pending = new Batch();
+                    }
+                }
+                futures.put(key, future);
+            }
+        }
+
+        opened.forEach(batch -> delayedExecutor.execute(() -> dispatch(batch)));
+        full.forEach(batch -> loadExecutor.execute(() -> dispatch(batch)));
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        Map<K, V> values = new HashMap<>(futures.size());
+        futures.forEach((key, future) -> {
+            V value = future.join();
+            if (value != null) {
+                values.put(key, value);
+            }
+        });
+        return values;
+    }
+
+    private void dispatch(Batch batch) {
+        synchronized (this) {
+            if (batch.dispatched) {
+                return;
+            }
+            batch.dispatched = true;
+            if (pending == batch) {
+                pending = new Batch();
+            }
+        }
+
+        Map<K, CompletableFuture<V>> futures = batch.futures;
+        Map<K, V> values = null;
+        RuntimeException failure = null;
+
+        batchSizes.record(futures.size());
+        try {
+            values = batchFunction.apply(Set.copyOf(futures.keySet()));
+        } catch (RuntimeException e) {
+            log.warn("Batch load of {} failed for {} keys", name, futures.size());
+            failure = e;
+        }
+
+        synchronized (this) {
+            futures.forEach(inFlight::remove);
+        }
+
+        for (Map.Entry<K, CompletableFuture<V>> entry : futures.entrySet()) {
+            if (failure != null) {
+                entry.getValue().completeExceptionally(failure);
+            } else {
+                entry.getValue().complete(values == null ? null : values.get(entry.getKey()));
+            }
+        }
+    }
+
+    private final class Batch {
+
+        private final Map<K, CompletableFuture<V>> futures = new HashMap<>();
+        private boolean dispatched;
+    }
+}
@@ -0,0 +1,88 @@
+package org.yaroslaavl.recruitingservice.feignClient;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.yaroslaavl.recruitingservice.exception.RemoteServiceUnavailableException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the number of calls in progress per Feign client, so a slow downstream service
+ * cannot tie up every request thread of this service.
+ * <p>
+ * Each client gets {@code feign.bulkhead.<client>.max_concurrent_calls} permits, falling back to
+ * {@code feign.bulkhead.max_concurrent_calls}. A call waits at most {@code feign.bulkhead.max_wait} for a permit
+ * and is otherwise rejected with {@link RemoteServiceUnavailableException}, counted by the
+ * {@code feign.bulkhead.rejected} counter tagged with the client name.
+ */
+@Slf4j
+@Component
+@Order(1)
+public class FeignBulkhead implements Capability {
+
+    private static final String UNKNOWN_CLIENT = "unknown";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final int defaultMaxConcurrentCalls;
+    private final Duration maxWait;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    public FeignBulkhead(Environment environment,
+                         MeterRegistry meterRegistry,
+                         @Value("${feign.bulkhead.max_concurrent_calls:50}") int defaultMaxConcurrentCalls,
+                         @Value("${feign.bulkhead.max_wait:PT0.05S}") Duration maxWait) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.defaultMaxConcurrentCalls = defaultMaxConcurrentCalls;
+        this.maxWait = maxWait;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            String clientName = clientName(request);
+            Semaphore semaphore = permits.computeIfAbsent(clientName, name -> new Semaphore(environment.getProperty(
+                    "feign.bulkhead." + name + ".max_concurrent_calls", Integer.class, defaultMaxConcurrentCalls)));
+
+            if (!acquire(semaphore)) {
+                log.warn("Bulkhead of {} is full, rejecting {} {}", clientName, request.httpMethod(), request.url());
+                meterRegistry.counter("feign.bulkhead.rejected", "client", clientName).increment();
+                throw new RemoteServiceUnavailableException(clientName + " is overloaded, try again later");
+            }
+
+            try {
+                return client.execute(request, options);
+            } finally {
+                semaphore.release();
+            }
+        };
+    }
+
+    private boolean acquire(Semaphore semaphore) {
+        try {
+            return semaphore.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String clientName(Request request) {
+        if (request.requestTemplate() == null || request.requestTemplate().feignTarget() == null) {
+            return UNKNOWN_CLIENT;
+        }
+        return request.requestTemplate().feignTarget().name();
+    }
+}
@@ -0,0 +1,78 @@
+package org.yaroslaavl.recruitingservice.feignClient;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.yaroslaavl.recruitingservice.exception.RemoteServiceUnavailableException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Guards every Feign method with its own circuit breaker, named {@code <client>-<method>}
+ * (for example {@code user-service-isApproved}) and configured under {@code resilience4j.circuitbreaker}.
+ * <p>
+ * I/O errors and 5xx responses count as failures, other responses as successes. While a breaker is open calls are
+ * rejected with {@link RemoteServiceUnavailableException} without reaching the downstream service; callers that can
+ * live with stale data fall back to it, the others fail fast. Calls rejected by the {@link FeignBulkhead} are not
+ * recorded. Breaker states and transitions are exposed through the {@code circuitbreakers} and
+ * {@code circuitbreakerevents} actuator endpoints. Applied around the bulkhead, which has the lower order.
+ */
+@Component
+@Order(2)
+@RequiredArgsConstructor
+public class FeignCircuitBreaker implements Capability {
+
+    private static final String UNKNOWN_BREAKER = "unknown";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(breakerName(request));
+
+            try {
+                circuitBreaker.acquirePermission();
+            } catch (CallNotPermittedException e) {
+                throw new RemoteServiceUnavailableException(circuitBreaker.getName() + " is unavailable, try again later");
+            }
+
+            long start = System.nanoTime();
+            try {
+                Response response = client.execute(request, options);
+                long duration = System.nanoTime() - start;
+
+                if (response.status() >= 500) {
+                    circuitBreaker.onError(duration, TimeUnit.NANOSECONDS, new IOException("HTTP " + response.status()));
+                } else {
+                    circuitBreaker.onSuccess(duration, TimeUnit.NANOSECONDS);
+                }
+                return response;
+            } catch (RemoteServiceUnavailableException e) {
+                circuitBreaker.releasePermission();
+                throw e;
+            } catch (IOException | RuntimeException e) {
+                circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+                throw e;
+            }
+        };
+    }
+
+    private static String breakerName(Request request) {
+        if (request.requestTemplate() == null
+                || request.requestTemplate().feignTarget() == null
+                || request.requestTemplate().methodMetadata() == null) {
+            return UNKNOWN_BREAKER;
+        }
+        return request.requestTemplate().feignTarget().name() + "-"
+                + request.requestTemplate().methodMetadata().method().getName();
+    }
+}
@@ -0,0 +1,111 @@
+package org.yaroslaavl.recruitingservice.feignClient;
+
+import feign.Capability;
+import feign.FeignException;
+import feign.InvocationHandlerFactory;
+import feign.RetryableException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.yaroslaavl.recruitingservice.exception.RemoteServiceUnavailableException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Times every Feign method call as seen by its caller, including waits for the {@link FeignBulkhead}, rejections
+ * of the {@link FeignCircuitBreaker} and decoding of the response.
+ * <p>
+ * Calls are recorded by the {@code feign.calls} timer, published with a percentile histogram and tagged by
+ * {@code client}, {@code method} and {@code outcome}: {@code success}, {@code client_error} and {@code server_error}
+ * for 4xx and 5xx responses, {@code io_error} when no response came back, {@code rejected} when the call was not
+ * let through and {@code error} otherwise. Methods taking collections record the number of IDs sent in the
+ * {@code feign.request.ids} summary, and methods returning maps or collections the number of entries returned in
+ * the {@code feign.response.entries} summary.
+ */
+@Component
+@RequiredArgsConstructor
+public class FeignMetrics implements Capability {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public InvocationHandlerFactory enrich(InvocationHandlerFactory invocationHandlerFactory) {
+        return (target, dispatch) -> {
+            InvocationHandler handler = invocationHandlerFactory.create(target, dispatch);
+
+            return (proxy, method, args) -> {
+                if (method.getDeclaringClass() == Object.class) {
+                    return handler.invoke(proxy, method, args);
+                }
+
+                recordSize("feign.request.ids", target.name(), method, idsSent(args));
+                Timer.Sample sample = Timer.start(meterRegistry);
+                String outcome = "error";
+                try {
+                    Object result = handler.invoke(proxy, method, args);
+                    outcome = "success";
+                    recordSize("feign.response.entries", target.name(), method, sizeOf(result));
+                    return result;
+                } catch (Throwable e) {
+                    outcome = outcome(e);
+                    throw e;
+                } finally {
+                    sample.stop(Timer.builder("feign.calls")
+                            .tags("client", target.name(), "method", method.getName(), "outcome", outcome)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry));
+                }
+            };
+        };
+    }
+
+    private void recordSize(String name, String client, Method method, int size) {
+        if (size >= 0) {
+            DistributionSummary.builder(name)
+                    .tags("client", client, "method", method.getName())
+                    .register(meterRegistry)
+                    .record(size);
+        }
+    }
+
+    private static int idsSent(Object[] args) {
+        int size = -1;
+        if (args != null) {
+            for (Object arg : args) {
+                int argSize = sizeOf(arg);
+                if (argSize >= 0) {
+                    size = Math.max(size, 0) + argSize;
+                }
+            }
+        }
+        return size;
+    }
+
+    private static int sizeOf(Object value) {
+        if (value instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        return -1;
+    }
+
+    private static String outcome(Throwable e) {
+        if (e instanceof RemoteServiceUnavailableException) {
+            return "rejected";
+        }
+        if (e instanceof RetryableException retryableException && retryableException.status() <= 0) {
+            return "io_error";
+        }
+        if (e instanceof FeignException feignException && feignException.status() >= 400) {
+            return feignException.status() >= 500 ? "server_error" : "client_error";
+        }
+        return "error";
+    }
+}
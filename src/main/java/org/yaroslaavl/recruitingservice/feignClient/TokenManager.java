@@ -1,18 +1,42 @@
 package org.yaroslaavl.recruitingservice.feignClient;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.http.*;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.yaroslaavl.recruitingservice.exception.ServiceTokenException;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+/**
+ * Obtains the service token of recruiting-service from Keycloak with the client credentials grant.
+ * <p>
+ * The token is cached until {@code expiry_margin} before its {@code expires_in} runs out. Once it enters its
+ * last {@code refresh_ahead} (at most half of its lifetime) the next caller triggers a background refresh and keeps
+ * using the current token meanwhile. Fetches are single-flight: concurrent callers share the fetch in progress
+ * instead of starting their own. Every fetch is timed by the {@code service.token.fetch} timer tagged by outcome, and
+ * the time callers wait for a token by the {@code service.token.acquire} timer tagged by {@code source}: {@code cache}
+ * when the cached token was used, {@code fetch} when the caller had to wait for Keycloak, {@code failure} otherwise.
+ * <p>
+ * Requests to Keycloak are bounded by {@code connect_timeout} and {@code read_timeout}, and a caller without a usable
+ * token waits at most {@code acquire_timeout} for the shared fetch; the fetch itself keeps running for later callers.
+ */
 @Slf4j
 @Component
 public class TokenManager {
@@ -26,7 +50,87 @@ public class TokenManager {
     @Value("${keycloak.recruiting-service.urls.token}")
     private String tokenUrl;
 
+    @Value("${keycloak.recruiting-service.token.refresh_ahead:PT30S}")
+    private Duration refreshAhead;
+
+    @Value("${keycloak.recruiting-service.token.expiry_margin:PT5S}")
+    private Duration expiryMargin;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration acquireTimeout;
+
+    private final RestTemplate restTemplate;
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private volatile CachedToken cachedToken;
+    private CompletableFuture<CachedToken> fetchInProgress;
+
+    public TokenManager(MeterRegistry meterRegistry,
+                        @Value("${keycloak.recruiting-service.token.connect_timeout:PT2S}") Duration connectTimeout,
+                        @Value("${keycloak.recruiting-service.token.read_timeout:PT5S}") Duration readTimeout,
+                        @Value("${keycloak.recruiting-service.token.acquire_timeout:PT10S}") Duration acquireTimeout) {
+        this.meterRegistry = meterRegistry;
+        this.acquireTimeout = acquireTimeout;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+        this.restTemplate = new RestTemplate(requestFactory);
+    }
+
     public String getServiceToken() {
+        CachedToken token = cachedToken;
+        Instant now = Instant.now();
+
+        if (token != null && now.isBefore(token.expiresAt())) {
+            if (!now.isBefore(token.refreshAt())) {
+                fetch();
+            }
+            acquireTimer("cache").record(Duration.between(now, Instant.now()));
+            return token.value();
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String source = "failure";
+        try {
+            String value = fetch().copy().orTimeout(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS).join().value();
+            source = "fetch";
+            return value;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new ServiceTokenException("Token retrieval error: no token within " + acquireTimeout);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        } finally {
+            sample.stop(acquireTimer(source));
+        }
+    }
+
+    private Timer acquireTimer(String source) {
+        return Timer.builder("service.token.acquire")
+                .tag("source", source)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private synchronized CompletableFuture<CachedToken> fetch() {
+        if (fetchInProgress == null || fetchInProgress.isDone()) {
+            fetchInProgress = CompletableFuture.supplyAsync(this::requestToken, refreshExecutor)
+                    .whenComplete((token, failure) -> {
+                        if (token != null) {
+                            cachedToken = token;
+                        } else {
+                            log.warn("Service token fetch failed, keeping the current token until it expires");
+                        }
+                    });
+        }
+        return fetchInProgress;
+    }
+
+    private CachedToken requestToken() {
         MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
         formData.add("grant_type", "client_credentials");
         formData.add("client_id", clientId);
@@ -36,8 +140,11 @@ public class TokenManager {
         headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
         HttpEntity<MultiValueMap<String, String>> httpEntity = new HttpEntity<>(formData, headers);
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
         try {
-            Map<String, String> response = new RestTemplate().postForEntity(
+            Instant requestedAt = Instant.now();
+            Map<String, Object> response = restTemplate.postForEntity(
              tokenUrl,
              httpEntity,
              Map.class
@@ -46,11 +153,31 @@ public class TokenManager {
             if (response == null) {
                 throw new ServiceTokenException("Token retrieval error: response is null");
             }
+            if (!(response.get("access_token") instanceof String accessToken) || accessToken.isBlank()) {
+                throw new ServiceTokenException("Token retrieval error: response has no access_token");
+            }
+            if (!(response.get("expires_in") instanceof Number expiresIn) || expiresIn.longValue() <= 0) {
+                throw new ServiceTokenException("Token retrieval error: response has no positive expires_in");
+            }
 
-            return response.get("access_token");
+            CachedToken token = CachedToken.of(accessToken, requestedAt,
+                    Duration.ofSeconds(expiresIn.longValue()), refreshAhead, expiryMargin);
+            outcome = "success";
+            return token;
         } catch (HttpClientErrorException | HttpServerErrorException ex) {
             log.error("Keycloak error during: {}", ex.getResponseBodyAsString());
             throw new ServiceTokenException("Token retrieval error: " + ex.getMessage());
+        } finally {
+            sample.stop(meterRegistry.timer("service.token.fetch", "outcome", outcome));
+        }
+    }
+
+    private record CachedToken(String value, Instant refreshAt, Instant expiresAt) {
+
+        static CachedToken of(String value, Instant requestedAt, Duration lifetime, Duration refreshAhead, Duration expiryMargin) {
+            Instant expiresAt = requestedAt.plus(lifetime).minus(expiryMargin);
+            Duration ahead = refreshAhead.compareTo(lifetime.dividedBy(2)) < 0 ? refreshAhead : lifetime.dividedBy(2);
+            return new CachedToken(value, requestedAt.plus(lifetime).minus(ahead), expiresAt);
         }
     }
 }
@@ -0,0 +1,98 @@
+package org.yaroslaavl.recruitingservice.feignClient.user;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.yaroslaavl.recruitingservice.database.entity.CandidateProfile;
+import org.yaroslaavl.recruitingservice.database.repository.CandidateProfileRepository;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Local copy of the candidate profiles of user-service, so applications can be filtered by salary, work mode and
+ * availability with a join against the {@code candidate_profile} table instead of fetching every matching candidate
+ * of the platform.
+ * <p>
+ * Unlike the approval projection the table is shared by all instances, so the profile events of user-service are
+ * consumed from a durable queue and applied only when newer than the stored profile. The salary and the availability
+ * date are stored typed, so recruiters can filter by an upper salary bound and a latest start date; values user-service
+ * publishes in another format are stored as unknown.
+ * <p>
+ * Applicants whose profile event has not arrived yet, for example those who applied before the table existed, have no
+ * row: they are still listed, with empty profile fields, but do not match any salary, work mode or availability
+ * filter until user-service publishes their profile. Nothing is fetched from user-service to fill them, so the cost of
+ * a listing does not grow with the number of candidates on the platform.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CandidateProfileProjection {
+
+    private final CandidateProfileRepository candidateProfileRepository;
+
+    /**
+     * Stores the profile of a candidate unless a newer one is already known.
+     *
+     * @param profile the profile as published by user-service
+     * @return {@code true} if the stored profile was replaced
+     */
+    public boolean apply(CandidateProfile profile) {
+        return candidateProfileRepository.upsertIfNewer(profile.getUserId(), profile.getDisplayName(), profile.getSalary(),
+                profile.getWorkMode(), profile.getAvailableHoursPerWeek(), profile.getAvailableFrom(), profile.getChangedAt()) > 0;
+    }
+
+    /**
+     * Returns the stored profiles of the given candidates, candidates without a profile are left out.
+     *
+     * @param candidateIds the identifiers of the candidates
+     * @return the profiles keyed by candidate identifier
+     */
+    public Map<String, CandidateProfile> findProfiles(Collection<String> candidateIds) {
+        if (candidateIds.isEmpty()) {
+            return Map.of();
+        }
+        return candidateProfileRepository.findAllById(candidateIds).stream()
+                .collect(Collectors.toMap(CandidateProfile::getUserId, Function.identity()));
+    }
+
+    /**
+     * Parses the expected salary of a candidate as published by user-service.
+     *
+     * @param salary the salary as a whole number, may be {@code null}
+     * @return the salary, or {@code null} when it is missing or not a whole number
+     */
+    public static Integer parseSalary(String salary) {
+        if (salary == null || salary.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(salary.strip());
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring candidate salary '{}', it is not a whole number", salary);
+            return null;
+        }
+    }
+
+    /**
+     * Parses the date from which a candidate is available as published by user-service.
+     *
+     * @param availableFrom the date in ISO-8601 format, may be {@code null}
+     * @return the date, or {@code null} when it is missing or not an ISO-8601 date
+     */
+    public static LocalDate parseAvailableFrom(String availableFrom) {
+        if (availableFrom == null || availableFrom.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(availableFrom.strip());
+        } catch (DateTimeParseException e) {
+            log.debug("Ignoring candidate availability date '{}', it is not an ISO-8601 date", availableFrom);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.yaroslaavl.recruitingservice.feignClient.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.yaroslaavl.recruitingservice.feignClient.BatchLoader;
+import org.yaroslaavl.recruitingservice.feignClient.dto.CompanyPreviewFeignDto;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Local cache of company previews in front of {@link UserFeignClient#previewInfo}.
+ * <p>
+ * Company name, location and logo change rarely, so previews are kept for {@code ttl}. Only the companies
+ * missing from the cache are requested, in a single batched call, and companies unknown to user-service
+ * are remembered as absent for the shorter {@code negative_ttl} so they are not requested on every page.
+ * Misses of concurrent requests are coalesced by a {@link BatchLoader} into a single call.
+ * <p>
+ * Every loaded preview is also kept as last known good for {@code stale_ttl}. When user-service fails or its circuit
+ * breaker is open, the missing previews are served from there instead, and companies never seen before are left out.
+ * <p>
+ * Hits, misses, evictions and load latency are published as the {@code cache.*} meters tagged {@code cache=company-previews}.
+ */
+@Slf4j
+@Component
+public class CompanyPreviewCache {
+
+    private final BatchLoader<UUID, CompanyPreviewFeignDto> previewLoader;
+    private final Cache<UUID, Optional<CompanyPreviewFeignDto>> cachedPreviews;
+    private final Cache<UUID, CompanyPreviewFeignDto> lastKnownPreviews;
+
+    public CompanyPreviewCache(UserFeignClient userFeignClient,
+                               @Value("${user_service.company_preview_cache.ttl:PT10M}") Duration ttl,
+                               @Value("${user_service.company_preview_cache.negative_ttl:PT1M}") Duration negativeTtl,
+                               @Value("${user_service.company_preview_cache.max_size:10000}") long maxSize,
+                               @Value("${user_service.company_preview_cache.stale_ttl:P1D}") Duration staleTtl,
+                               @Value("${user_service.batch.window:PT0.002S}") Duration batchWindow,
+                               @Value("${user_service.batch.max_size:200}") int maxBatchSize,
+                               MeterRegistry meterRegistry) {
+        this.previewLoader = new BatchLoader<>("company-previews", batchWindow, maxBatchSize, userFeignClient::previewInfo, meterRegistry);
+        this.cachedPreviews = Caffeine.newBuilder()
+                .expireAfter(new PreviewExpiry(ttl, negativeTtl))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.lastKnownPreviews = Caffeine.newBuilder()
+                .expireAfterWrite(staleTtl)
+                .maximumSize(maxSize)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cachedPreviews, "company-previews");
+    }
+
+    /**
+     * Returns the previews of the given companies, requesting the ones not cached yet from user-service in one call.
+     * Falls back to the last known previews when user-service cannot be reached.
+     *
+     * @param companyIds the identifiers of the companies
+     * @return the previews by company id; companies unknown to user-service are left out
+     */
+    public Map<UUID, CompanyPreviewFeignDto> previewInfo(Collection<UUID> companyIds) {
+        if (companyIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<UUID, CompanyPreviewFeignDto> previews = new HashMap<>(companyIds.size());
+        try {
+            cachedPreviews.getAll(companyIds, this::load).forEach((companyId, preview) ->
+                    preview.ifPresent(value -> previews.put(companyId, value)));
+        } catch (RuntimeException e) {
+            log.warn("Company previews unavailable, serving last known ones: {}", e.getMessage());
+
+            cachedPreviews.getAllPresent(companyIds).forEach((companyId, preview) ->
+                    preview.ifPresent(value -> previews.put(companyId, value)));
+            lastKnownPreviews.getAllPresent(companyIds).forEach(previews::putIfAbsent);
+        }
+        return previews;
+    }
+
+    private Map<UUID, Optional<CompanyPreviewFeignDto>> load(Set<? extends UUID> companyIds) {
+        Map<UUID, CompanyPreviewFeignDto> loaded = previewLoader.getAll(Set.copyOf(companyIds));
+        Map<UUID, Optional<CompanyPreviewFeignDto>> previews = new HashMap<>(companyIds.size());
+
+        for (UUID companyId : companyIds) {
+            previews.put(companyId, Optional.ofNullable(loaded.get(companyId)));
+        }
+        lastKnownPreviews.putAll(loaded);
+        log.debug("Loaded company previews for {}", companyIds);
+        return previews;
+    }
+
+    private record PreviewExpiry(Duration ttl, Duration negativeTtl) implements Expiry<UUID, Optional<CompanyPreviewFeignDto>> {
+
+        @Override
+        public long expireAfterCreate(UUID companyId, Optional<CompanyPreviewFeignDto> preview, long currentTime) {
+            return (preview.isPresent() ? ttl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID companyId, Optional<CompanyPreviewFeignDto> preview, long currentTime, long currentDuration) {
+            return expireAfterCreate(companyId, preview, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UUID companyId, Optional<CompanyPreviewFeignDto> preview, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
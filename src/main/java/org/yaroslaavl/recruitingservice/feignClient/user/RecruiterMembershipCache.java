@@ -0,0 +1,115 @@
+package org.yaroslaavl.recruitingservice.feignClient.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local cache of recruiter-to-company memberships in front of {@link UserFeignClient#isRecruiterBelongToCompany}.
+ * <p>
+ * Memberships are kept for the short {@code ttl}, and denials for the even shorter {@code negative_ttl}, so a
+ * recruiter writing several vacancies in a row asks user-service once. A slow membership check does not hold the
+ * cache's map lock, so lookups of other recruiters are not blocked behind it. Memberships changed in user-service are
+ * evicted right away through its membership events; the TTL only bounds the damage of an event that never arrived.
+ * A check that was in flight while an eviction happened is returned to its caller but not cached, so it cannot put
+ * back a membership the event just revoked.
+ * <p>
+ * Hits, misses and evictions are published as the {@code cache.*} meters tagged {@code cache=recruiter-memberships}.
+ */
+@Slf4j
+@Component
+public class RecruiterMembershipCache {
+
+    private final UserFeignClient userFeignClient;
+    private final Cache<MembershipKey, Boolean> memberships;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public RecruiterMembershipCache(UserFeignClient userFeignClient,
+                                    @Value("${user_service.membership_cache.ttl:PT1M}") Duration ttl,
+                                    @Value("${user_service.membership_cache.negative_ttl:PT10S}") Duration negativeTtl,
+                                    @Value("${user_service.membership_cache.max_size:10000}") long maxSize,
+                                    MeterRegistry meterRegistry) {
+        this.userFeignClient = userFeignClient;
+        this.memberships = Caffeine.newBuilder()
+                .expireAfter(new MembershipExpiry(ttl, negativeTtl))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, memberships, "recruiter-memberships");
+    }
+
+    /**
+     * Returns whether the recruiter belongs to the company, asking user-service only when it is not cached.
+     *
+     * @param recruiterId the identifier of the recruiter
+     * @param companyId   the identifier of the company
+     * @return {@code true} if the recruiter belongs to the company
+     */
+    public boolean isRecruiterBelongToCompany(String recruiterId, UUID companyId) {
+        MembershipKey key = new MembershipKey(recruiterId, companyId);
+        Boolean member = memberships.getIfPresent(key);
+        if (member == null) {
+            long evictionsBefore = evictions.get();
+            member = userFeignClient.isRecruiterBelongToCompany(recruiterId, companyId);
+            memberships.put(key, member);
+            if (evictions.get() != evictionsBefore) {
+                memberships.asMap().remove(key, member);
+            }
+        }
+        return member;
+    }
+
+    /**
+     * Evicts the membership of the recruiter in the company, or in every company when {@code companyId} is {@code null}.
+     *
+     * @param recruiterId the identifier of the recruiter
+     * @param companyId   the identifier of the company, may be {@code null}
+     */
+    public void evict(String recruiterId, UUID companyId) {
+        evictions.incrementAndGet();
+        if (companyId != null) {
+            memberships.invalidate(new MembershipKey(recruiterId, companyId));
+        } else {
+            memberships.asMap().keySet().removeIf(key -> key.recruiterId().equals(recruiterId));
+        }
+        log.debug("Evicted membership of recruiter '{}' in company {}", recruiterId, companyId);
+    }
+
+    /**
+     * Evicts every cached membership.
+     */
+    public void invalidateAll() {
+        evictions.incrementAndGet();
+        memberships.invalidateAll();
+    }
+
+    private record MembershipKey(String recruiterId, UUID companyId) { }
+
+    private record MembershipExpiry(Duration ttl, Duration negativeTtl) implements Expiry<MembershipKey, Boolean> {
+
+        @Override
+        public long expireAfterCreate(MembershipKey key, Boolean member, long currentTime) {
+            return (member ? ttl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(MembershipKey key, Boolean member, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, member, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(MembershipKey key, Boolean member, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
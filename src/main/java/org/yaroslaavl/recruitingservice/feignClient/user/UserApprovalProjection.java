@@ -0,0 +1,94 @@
+package org.yaroslaavl.recruitingservice.feignClient.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Local projection of the approval status of users, so applying and reporting do not ask user-service every time.
+ * <p>
+ * Statuses are updated by the approval events of user-service and otherwise loaded through
+ * {@link UserFeignClient#isApproved} on the first request for a user, which also rebuilds the projection after a cold
+ * start or a resync. The apply checks run on virtual threads, so user-service is called outside of the cache lock
+ * where waiting for it cannot pin the carrier thread. An event older than the status already known is ignored.
+ * Entries are reloaded from user-service after {@code max_age} at the latest, which bounds the staleness caused by
+ * events that never arrived.
+ * <p>
+ * Hits, misses and evictions are published as the {@code cache.*} meters tagged {@code cache=user-approvals}.
+ */
+@Slf4j
+@Component
+public class UserApprovalProjection {
+
+    private final UserFeignClient userFeignClient;
+    private final Cache<String, ApprovalStatus> approvalStatuses;
+
+    public UserApprovalProjection(UserFeignClient userFeignClient,
+                                  @Value("${user_service.approval_projection.max_age:PT6H}") Duration maxAge,
+                                  @Value("${user_service.approval_projection.max_size:100000}") long maxSize,
+                                  MeterRegistry meterRegistry) {
+        this.userFeignClient = userFeignClient;
+        this.approvalStatuses = Caffeine.newBuilder()
+                .expireAfterWrite(maxAge)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, approvalStatuses, "user-approvals");
+    }
+
+    /**
+     * Returns whether the user is approved, asking user-service only when the user is not in the projection.
+     *
+     * @param userId the identifier of the user
+     * @return {@code true} if the user is approved
+     */
+    public boolean isApproved(String userId) {
+        ApprovalStatus status = approvalStatuses.getIfPresent(userId);
+        if (status == null) {
+            status = approvalStatuses.asMap().merge(userId, load(userId),
+                    (current, loaded) -> current.asOf().isAfter(loaded.asOf()) ? current : loaded);
+        }
+        return status.approved();
+    }
+
+    /**
+     * Applies an approval change published by user-service.
+     *
+     * @param userId    the identifier of the user
+     * @param approved  the new approval status
+     * @param changedAt when the status changed; events without it are applied unconditionally
+     */
+    public void apply(String userId, boolean approved, Instant changedAt) {
+        approvalStatuses.asMap().compute(userId, (id, current) -> {
+            if (current != null && changedAt != null && changedAt.isBefore(current.asOf())) {
+                log.debug("Ignoring outdated approval event of user '{}'", id);
+                return current;
+            }
+            return new ApprovalStatus(approved, changedAt != null ? changedAt : Instant.now());
+        });
+    }
+
+    /**
+     * Drops the whole projection, so every status is loaded from user-service again.
+     */
+    public void invalidateAll() {
+        approvalStatuses.invalidateAll();
+    }
+
+    private ApprovalStatus load(String userId) {
+        Instant asOf = Instant.now();
+        boolean approved = userFeignClient.isApproved(userId);
+        log.debug("Loaded approval of user '{}': {}", userId, approved);
+        return new ApprovalStatus(approved, asOf);
+    }
+
+    private record ApprovalStatus(boolean approved, Instant asOf) { }
+}
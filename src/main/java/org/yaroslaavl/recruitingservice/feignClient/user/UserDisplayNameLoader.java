@@ -0,0 +1,142 @@
+package org.yaroslaavl.recruitingservice.feignClient.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.yaroslaavl.recruitingservice.feignClient.BatchLoader;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves user display names through {@link UserFeignClient#usersDisplayName}, coalescing the lookups of concurrent
+ * requests made on behalf of the same user into a single call.
+ * <p>
+ * Names are cached per user and viewer for {@code ttl}, so moderators paging through reports mostly resolve the same
+ * reporters locally. Only the names missing from the cache are requested, and users unknown to user-service are
+ * remembered as absent for the shorter {@code negative_ttl}.
+ * <p>
+ * Every resolved name is also kept as last known good for {@code stale_ttl}. When user-service fails or its circuit
+ * breaker is open, the missing names are served from there instead, and users never seen before are left out.
+ * <p>
+ * Hits, misses, evictions and load latency are published as the {@code cache.*} meters tagged {@code cache=user-display-names}.
+ */
+@Slf4j
+@Component
+public class UserDisplayNameLoader {
+
+    private final UserFeignClient userFeignClient;
+    private final BatchLoader<DisplayNameKey, String> displayNameLoader;
+    private final Cache<DisplayNameKey, Optional<String>> cachedDisplayNames;
+    private final Cache<DisplayNameKey, String> lastKnownDisplayNames;
+
+    public UserDisplayNameLoader(UserFeignClient userFeignClient,
+                                 @Value("${user_service.batch.window:PT0.002S}") Duration batchWindow,
+                                 @Value("${user_service.batch.max_size:200}") int maxBatchSize,
+                                 @Value("${user_service.display_name_cache.ttl:PT10M}") Duration ttl,
+                                 @Value("${user_service.display_name_cache.negative_ttl:PT1M}") Duration negativeTtl,
+                                 @Value("${user_service.display_name_cache.stale_ttl:P1D}") Duration staleTtl,
+                                 @Value("${user_service.display_name_cache.max_size:10000}") long maxSize,
+                                 MeterRegistry meterRegistry) {
+        this.userFeignClient = userFeignClient;
+        this.displayNameLoader = new BatchLoader<>("user-display-names", batchWindow, maxBatchSize, this::load, meterRegistry);
+        this.cachedDisplayNames = Caffeine.newBuilder()
+                .expireAfter(new DisplayNameExpiry(ttl, negativeTtl))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.lastKnownDisplayNames = Caffeine.newBuilder()
+                .expireAfterWrite(staleTtl)
+                .maximumSize(maxSize)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cachedDisplayNames, "user-display-names");
+    }
+
+    /**
+     * Returns the display names of the given users as seen by the current user, requesting the ones not cached yet
+     * from user-service in one call. Falls back to the last known names when user-service cannot be reached.
+     *
+     * @param userIds          the identifiers of the users
+     * @param currentUserEmail the email of the user the names are shown to
+     * @return the display names by user id; users unknown to user-service are left out
+     */
+    public Map<String, String> usersDisplayName(Set<String> userIds, String currentUserEmail) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<DisplayNameKey> keys = userIds.stream()
+                .map(userId -> new DisplayNameKey(userId, currentUserEmail))
+                .collect(Collectors.toSet());
+
+        Map<String, String> displayNames = new HashMap<>(keys.size());
+        try {
+            cachedDisplayNames.getAll(keys, this::loadMissing).forEach((key, displayName) ->
+                    displayName.ifPresent(value -> displayNames.put(key.userId(), value)));
+        } catch (RuntimeException e) {
+            log.warn("User display names unavailable, serving last known ones: {}", e.getMessage());
+
+            cachedDisplayNames.getAllPresent(keys).forEach((key, displayName) ->
+                    displayName.ifPresent(value -> displayNames.put(key.userId(), value)));
+            lastKnownDisplayNames.getAllPresent(keys).forEach((key, displayName) ->
+                    displayNames.putIfAbsent(key.userId(), displayName));
+        }
+        return displayNames;
+    }
+
+    private Map<DisplayNameKey, Optional<String>> loadMissing(Set<? extends DisplayNameKey> keys) {
+        Map<DisplayNameKey, String> loaded = displayNameLoader.getAll(Set.copyOf(keys));
+        Map<DisplayNameKey, Optional<String>> displayNames = new HashMap<>(keys.size());
+
+        for (DisplayNameKey key : keys) {
+            displayNames.put(key, Optional.ofNullable(loaded.get(key)));
+        }
+        lastKnownDisplayNames.putAll(loaded);
+        log.debug("Loaded display names of {} users", keys.size());
+        return displayNames;
+    }
+
+    private Map<DisplayNameKey, String> load(Set<DisplayNameKey> keys) {
+        Map<String, Set<String>> userIdsByEmail = keys.stream()
+                .collect(Collectors.groupingBy(DisplayNameKey::currentUserEmail,
+                        Collectors.mapping(DisplayNameKey::userId, Collectors.toSet())));
+
+        Map<DisplayNameKey, String> displayNames = new HashMap<>(keys.size());
+        userIdsByEmail.forEach((currentUserEmail, userIds) -> {
+            Map<String, String> loaded = userFeignClient.usersDisplayName(userIds, currentUserEmail);
+
+            if (loaded != null) {
+                loaded.forEach((userId, displayName) -> displayNames.put(new DisplayNameKey(userId, currentUserEmail), displayName));
+            }
+        });
+        return displayNames;
+    }
+
+    private record DisplayNameKey(String userId, String currentUserEmail) {
+    }
+
+    private record DisplayNameExpiry(Duration ttl, Duration negativeTtl) implements Expiry<DisplayNameKey, Optional<String>> {
+
+        @Override
+        public long expireAfterCreate(DisplayNameKey key, Optional<String> displayName, long currentTime) {
+            return (displayName.isPresent() ? ttl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(DisplayNameKey key, Optional<String> displayName, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, displayName, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(DisplayNameKey key, Optional<String> displayName, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -5,7 +5,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.yaroslaavl.recruitingservice.config.FeignConfig;
 import org.yaroslaavl.recruitingservice.feignClient.dto.CompanyPreviewFeignDto;
-import org.yaroslaavl.recruitingservice.feignClient.dto.UserFeignDto;
 
 import java.util.Map;
 import java.util.Set;
@@ -25,12 +24,6 @@ public interface UserFeignClient {
     Map<String, String> usersDisplayName(@RequestParam("userIds") Set<String> userIds,
                                          @RequestParam("currentUserEmail") String currentUserEmail);
 
-    @GetMapping("/user/filtered-candidates")
-    Map<String, UserFeignDto> getFilteredCandidates(@RequestParam(required = false) String salary,
-                                                    @RequestParam(required = false) String workMode,
-                                                    @RequestParam(required = false) Integer availableHoursPerWeek,
-                                                    @RequestParam(required = false) String availableFrom);
-
     @GetMapping("/company/preview")
     Map<UUID, CompanyPreviewFeignDto> previewInfo (@RequestParam("companyIds") Set<UUID> companyIds);
 }
@@ -4,13 +4,15 @@ import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.yaroslaavl.recruitingservice.database.entity.Application;
+import org.yaroslaavl.recruitingservice.database.entity.CandidateProfile;
+import org.yaroslaavl.recruitingservice.database.projection.CandidateApplicationCard;
 import org.yaroslaavl.recruitingservice.dto.response.ApplicationDetailsResponseDto;
 import org.yaroslaavl.recruitingservice.dto.response.list.ApplicationShortDto;
 import org.yaroslaavl.recruitingservice.dto.response.list.CandidateApplicationsShortDto;
 import org.yaroslaavl.recruitingservice.feignClient.dto.ApplicationChatInfo;
 import org.yaroslaavl.recruitingservice.feignClient.dto.CompanyPreviewFeignDto;
-import org.yaroslaavl.recruitingservice.feignClient.dto.UserFeignDto;
 import org.yaroslaavl.recruitingservice.mapper.helper.ApplicationMapperHelper;
+import org.yaroslaavl.recruitingservice.mapper.helper.VacancyApplicationNumbers;
 
 import java.util.List;
 import java.util.Map;
@@ -27,28 +29,29 @@ public interface ApplicationMapper {
     @Mapping(target = "availableFrom", expression = "java(mapCandidateAvailableFrom(application, profileInfo))")
     @Mapping(target = "status", source = "application.status")
     @Mapping(target = "appliedAt", source = "application.appliedAt")
-    ApplicationShortDto toShortDto(Application application, Map<String, UserFeignDto> profileInfo);
+    ApplicationShortDto toShortDto(Application application, Map<String, CandidateProfile> profileInfo);
 
-    default List<ApplicationShortDto> toShortDto(List<Application> applications, Map<String, UserFeignDto> profileInfo) {
+    default List<ApplicationShortDto> toShortDto(List<Application> applications, Map<String, CandidateProfile> profileInfo) {
         return applications.stream()
                 .map(application -> toShortDto(application, profileInfo))
                 .toList();
     }
 
-    @Mapping(target = "vacancyId", source = "application.vacancy.id")
-    @Mapping(target = "vacancyTitle", source = "application.vacancy.title")
-    @Mapping(target = "companyId", source = "application.vacancy.companyId", qualifiedByName = "companyId")
-    @Mapping(target = "companyName", source = "application.vacancy.companyId", qualifiedByName = "companyName")
-    @Mapping(target = "companyLogoUrl", source = "application.vacancy.companyId", qualifiedByName = "companyLogoUrl")
-    @Mapping(target = "companyLocation", source = "application.vacancy.companyId", qualifiedByName = "companyLocation")
-    @Mapping(target = "location", source = "application.vacancy.location")
-    @Mapping(target = "applicationNumber", source = "application.vacancy.id", qualifiedByName = "mapVacancyIdToNumberOfApplication")
-    @Mapping(target = "finishDate", source = "application.vacancy.id", qualifiedByName = "mapVacancyIdToVacancyExpirationDate")
-    CandidateApplicationsShortDto toCandidateShortDto(Application application, @Context Map<UUID, CompanyPreviewFeignDto> previewInfo);
+    @Mapping(target = "companyId", source = "application.companyId", qualifiedByName = "companyId")
+    @Mapping(target = "companyName", source = "application.companyId", qualifiedByName = "companyName")
+    @Mapping(target = "companyLogoUrl", source = "application.companyId", qualifiedByName = "companyLogoUrl")
+    @Mapping(target = "companyLocation", source = "application.companyId", qualifiedByName = "companyLocation")
+    @Mapping(target = "applicationNumber", source = "application.vacancyId", qualifiedByName = "mapVacancyIdToNumberOfApplication")
+    @Mapping(target = "finishDate", source = "application.vacancyCreatedAt", qualifiedByName = "mapVacancyCreatedAtToVacancyExpirationDate")
+    CandidateApplicationsShortDto toCandidateShortDto(CandidateApplicationCard application,
+                                                      @Context Map<UUID, CompanyPreviewFeignDto> previewInfo,
+                                                      @Context VacancyApplicationNumbers applicationNumbers);
 
-    default List<CandidateApplicationsShortDto> toCandidateShortDto(List<Application> applications, Map<UUID, CompanyPreviewFeignDto> previewInfo) {
+    default List<CandidateApplicationsShortDto> toCandidateShortDto(List<CandidateApplicationCard> applications,
+                                                                    Map<UUID, CompanyPreviewFeignDto> previewInfo,
+                                                                    VacancyApplicationNumbers applicationNumbers) {
         return applications.stream()
-                .map(application -> toCandidateShortDto(application, previewInfo))
+                .map(application -> toCandidateShortDto(application, previewInfo, applicationNumbers))
                 .toList();
     }
 
@@ -71,28 +74,28 @@ public interface ApplicationMapper {
                 .toList();
     }
 
-    default String mapCandidateSalary(Application application, Map<String, UserFeignDto> profileInfo) {
-        UserFeignDto user = profileInfo.get(application.getCandidateId());
-        return user != null ? user.salary() : null;
+    default String mapCandidateSalary(Application application, Map<String, CandidateProfile> profileInfo) {
+        CandidateProfile profile = profileInfo.get(application.getCandidateId());
+        return profile != null && profile.getSalary() != null ? String.valueOf(profile.getSalary()) : null;
     }
 
-    default String mapCandidateWorkMode(Application application, Map<String, UserFeignDto> profileInfo) {
-        UserFeignDto user = profileInfo.get(application.getCandidateId());
-        return user != null ? user.workMode() : null;
+    default String mapCandidateWorkMode(Application application, Map<String, CandidateProfile> profileInfo) {
+        CandidateProfile profile = profileInfo.get(application.getCandidateId());
+        return profile != null ? profile.getWorkMode() : null;
     }
 
-    default Integer mapCandidateAvailableHours(Application application, Map<String, UserFeignDto> profileInfo) {
-        UserFeignDto user = profileInfo.get(application.getCandidateId());
-        return user != null ? user.availableHoursPerWeek() : null;
+    default Integer mapCandidateAvailableHours(Application application, Map<String, CandidateProfile> profileInfo) {
+        CandidateProfile profile = profileInfo.get(application.getCandidateId());
+        return profile != null ? profile.getAvailableHoursPerWeek() : null;
     }
 
-    default String mapCandidateAvailableFrom(Application application, Map<String, UserFeignDto> profileInfo) {
-        UserFeignDto user = profileInfo.get(application.getCandidateId());
-        return user != null ? user.availableFrom() : null;
+    default String mapCandidateAvailableFrom(Application application, Map<String, CandidateProfile> profileInfo) {
+        CandidateProfile profile = profileInfo.get(application.getCandidateId());
+        return profile != null && profile.getAvailableFrom() != null ? profile.getAvailableFrom().toString() : null;
     }
 
-    default String mapCandidateDisplayName(Application application, Map<String, UserFeignDto> profileInfo) {
-        UserFeignDto user = profileInfo.get(application.getCandidateId());
-        return user != null ? user.displayName() : null;
+    default String mapCandidateDisplayName(Application application, Map<String, CandidateProfile> profileInfo) {
+        CandidateProfile profile = profileInfo.get(application.getCandidateId());
+        return profile != null ? profile.getDisplayName() : null;
     }
 }
@@ -2,6 +2,7 @@ package org.yaroslaavl.recruitingservice.mapper;
 
 import org.mapstruct.*;
 import org.yaroslaavl.recruitingservice.database.entity.Vacancy;
+import org.yaroslaavl.recruitingservice.database.projection.VacancyCard;
 import org.yaroslaavl.recruitingservice.dto.request.VacancyRequestDto;
 import org.yaroslaavl.recruitingservice.dto.request.VacancyUpdateRequestDto;
 import org.yaroslaavl.recruitingservice.dto.response.VacancyResponseDto;
@@ -24,14 +25,14 @@ public interface VacancyMapper {
     @Mapping(target = "category", source = "category.name")
     VacancyResponseDto toDto(Vacancy vacancy);
 
-    @Mapping(target = "category", source = "vacancy.category.name")
+    @Mapping(target = "category", source = "vacancy.categoryName")
     @Mapping(target = "companyId", source = "vacancy.companyId", qualifiedByName = "companyId")
     @Mapping(target = "companyName", source = "vacancy.companyId", qualifiedByName = "companyName")
     @Mapping(target = "companyLogoUrl", source = "vacancy.companyId", qualifiedByName = "companyLogoUrl")
     @Mapping(target = "companyLocation", source = "vacancy.companyId", qualifiedByName = "companyLocation")
-    VacancyShortDto toShortDto(Vacancy vacancy, @Context Map<UUID, CompanyPreviewFeignDto> previewInfo);
+    VacancyShortDto toShortDto(VacancyCard vacancy, @Context Map<UUID, CompanyPreviewFeignDto> previewInfo);
 
-    default List<VacancyShortDto> toShortDto(List<Vacancy> vacancies, Map<UUID, CompanyPreviewFeignDto> previewInfo) {
+    default List<VacancyShortDto> toShortDto(List<VacancyCard> vacancies, Map<UUID, CompanyPreviewFeignDto> previewInfo) {
         return vacancies.stream()
                 .map(vacancy -> toShortDto(vacancy, previewInfo))
                 .toList();
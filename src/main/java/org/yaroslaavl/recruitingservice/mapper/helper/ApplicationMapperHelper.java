@@ -1,17 +1,21 @@
 package org.yaroslaavl.recruitingservice.mapper.helper;
 
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.mapstruct.Context;
 import org.mapstruct.Named;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.yaroslaavl.recruitingservice.database.entity.Vacancy;
+import org.yaroslaavl.recruitingservice.database.projection.CandidateApplicationCard;
+import org.yaroslaavl.recruitingservice.database.projection.VacancyApplicationCount;
 import org.yaroslaavl.recruitingservice.database.repository.ApplicationRepository;
-import org.yaroslaavl.recruitingservice.database.repository.VacancyRepository;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -20,19 +24,34 @@ public class ApplicationMapperHelper {
     @Value("${vacancy.time_expiration}")
     private Duration vacancyTimeExpiration;
 
-    private final VacancyRepository vacancyRepository;
     private final ApplicationRepository repository;
 
-    @Named("mapVacancyIdToNumberOfApplication")
-    public Integer mapVacancyIdToNumberOfApplication(UUID vacancyId) {
-        return repository.findApplicationsByVacancyId(vacancyId);
+    /**
+     * Counts the applications of every vacancy on a page of candidate applications with a single grouped query,
+     * so the mapper does not count them row by row.
+     *
+     * @param applications the application cards of the page
+     * @return the number of applications by vacancy id
+     */
+    public VacancyApplicationNumbers resolveApplicationNumbers(Collection<CandidateApplicationCard> applications) {
+        Set<UUID> vacancyIds = applications.stream()
+                .map(CandidateApplicationCard::vacancyId)
+                .collect(Collectors.toSet());
+
+        if (vacancyIds.isEmpty()) {
+            return new VacancyApplicationNumbers(Map.of());
+        }
+        return new VacancyApplicationNumbers(repository.countApplicationsByVacancyIds(vacancyIds).stream()
+                .collect(Collectors.toMap(VacancyApplicationCount::vacancyId, count -> Math.toIntExact(count.applicationCount()))));
     }
 
-    @Named("mapVacancyIdToVacancyExpirationDate")
-    public LocalDateTime mapVacancyIdToVacancyExpirationDate(UUID vacancyId) {
-        Vacancy vacancy = vacancyRepository.findById(vacancyId)
-                .orElseThrow(() -> new EntityNotFoundException("Vacancy not found"));
+    @Named("mapVacancyIdToNumberOfApplication")
+    public Integer mapVacancyIdToNumberOfApplication(UUID vacancyId, @Context VacancyApplicationNumbers applicationNumbers) {
+        return applicationNumbers.of(vacancyId);
+    }
 
-        return vacancy.getCreatedAt().plusDays(vacancyTimeExpiration.toDays());
+    @Named("mapVacancyCreatedAtToVacancyExpirationDate")
+    public LocalDateTime mapVacancyCreatedAtToVacancyExpirationDate(LocalDateTime vacancyCreatedAt) {
+        return vacancyCreatedAt.plusDays(vacancyTimeExpiration.toDays());
     }
 }
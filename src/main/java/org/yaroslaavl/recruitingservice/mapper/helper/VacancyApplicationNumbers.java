@@ -0,0 +1,15 @@
+package org.yaroslaavl.recruitingservice.mapper.helper;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The number of applications of every vacancy shown on one page, resolved up front by
+ * {@link ApplicationMapperHelper#resolveApplicationNumbers} and handed to the mapper as context.
+ */
+public record VacancyApplicationNumbers(Map<UUID, Integer> byVacancyId) {
+
+    public Integer of(UUID vacancyId) {
+        return byVacancyId.getOrDefault(vacancyId, 0);
+    }
+}
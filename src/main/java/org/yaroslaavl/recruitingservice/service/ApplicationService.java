@@ -2,6 +2,7 @@ package org.yaroslaavl.recruitingservice.service;
 
 import org.springframework.data.domain.Pageable;
 import org.yaroslaavl.recruitingservice.database.entity.enums.RecruitingSystemStatus;
+import org.yaroslaavl.recruitingservice.database.entity.enums.TotalsMode;
 import org.yaroslaavl.recruitingservice.dto.request.VacancyApplicationRequestDto;
 import org.yaroslaavl.recruitingservice.dto.response.ApplicationDetailsResponseDto;
 import org.yaroslaavl.recruitingservice.dto.response.list.ApplicationShortDto;
@@ -9,6 +10,7 @@ import org.yaroslaavl.recruitingservice.dto.response.list.CandidateApplicationsS
 import org.yaroslaavl.recruitingservice.dto.response.list.PageShortDto;
 import org.yaroslaavl.recruitingservice.feignClient.dto.ApplicationChatInfo;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -17,13 +19,13 @@ public interface ApplicationService {
 
     void applyVacancy(VacancyApplicationRequestDto vacancyApplicationRequestDto);
 
-    PageShortDto<ApplicationShortDto> getFilteredApplications(UUID vacancyId, RecruitingSystemStatus status, String salary, String workMode, Integer availableHoursPerWeek, String availableForm, Pageable pageable);
+    PageShortDto<ApplicationShortDto> getFilteredApplications(UUID vacancyId, RecruitingSystemStatus status, Integer salary, String workMode, Integer availableHoursPerWeek, LocalDate availableFrom, TotalsMode totals, Pageable pageable);
 
     ApplicationDetailsResponseDto getApplicationDetails(UUID applicationId);
 
     void changeApplicationStatus(UUID applicationId, RecruitingSystemStatus newStatus);
 
-    PageShortDto<CandidateApplicationsShortDto> getMyApplications(Pageable pageable);
+    PageShortDto<CandidateApplicationsShortDto> getMyApplications(TotalsMode totals, Pageable pageable);
 
     boolean isOpenedForChatting(UUID applicationId);
 
@@ -1,10 +1,11 @@
 package org.yaroslaavl.recruitingservice.service;
 
+import org.yaroslaavl.recruitingservice.database.entity.enums.CategorySearchMode;
 import org.yaroslaavl.recruitingservice.dto.response.CategoryResponseDto;
 
 import java.util.List;
 
 public interface CategoryService {
 
-    List<CategoryResponseDto> findFilteredCategories(String searchName);
+    List<CategoryResponseDto> findFilteredCategories(String searchName, CategorySearchMode searchMode);
 }
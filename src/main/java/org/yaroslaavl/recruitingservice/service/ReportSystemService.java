@@ -2,6 +2,7 @@ package org.yaroslaavl.recruitingservice.service;
 
 import org.springframework.data.domain.Pageable;
 import org.yaroslaavl.recruitingservice.database.entity.enums.RecruitingSystemStatus;
+import org.yaroslaavl.recruitingservice.database.entity.enums.TotalsMode;
 import org.yaroslaavl.recruitingservice.dto.request.ReportRequestDto;
 import org.yaroslaavl.recruitingservice.dto.response.ReportSystemResponseDto;
 import org.yaroslaavl.recruitingservice.dto.response.list.PageShortDto;
@@ -16,7 +17,7 @@ public interface ReportSystemService {
 
     void resolveReport(UUID reportId, RecruitingSystemStatus newStatus);
 
-    PageShortDto<ReportSystemShortDto> getFilteredReports(RecruitingSystemStatus status, Pageable pageable);
+    PageShortDto<ReportSystemShortDto> getFilteredReports(RecruitingSystemStatus status, TotalsMode totals, Pageable pageable);
 
     ReportSystemResponseDto getReport(UUID id);
 
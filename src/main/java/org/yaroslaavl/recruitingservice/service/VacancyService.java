@@ -4,11 +4,15 @@ import org.springframework.data.domain.Pageable;
 import org.yaroslaavl.recruitingservice.database.entity.enums.*;
 import org.yaroslaavl.recruitingservice.dto.request.VacancyRequestDto;
 import org.yaroslaavl.recruitingservice.dto.request.VacancyUpdateRequestDto;
+import org.yaroslaavl.recruitingservice.dto.response.SuggestionDto;
+import org.yaroslaavl.recruitingservice.dto.response.VacancyFacetsDto;
 import org.yaroslaavl.recruitingservice.dto.response.VacancyResponseDto;
+import org.yaroslaavl.recruitingservice.dto.response.list.CursorPageShortDto;
 import org.yaroslaavl.recruitingservice.dto.response.list.PageShortDto;
 import org.yaroslaavl.recruitingservice.dto.response.list.VacancyShortDto;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -23,9 +27,17 @@ public interface VacancyService {
 
     VacancyResponseDto getVacancy(UUID vacancyId);
 
-    PageShortDto<VacancyShortDto> getFilteredVacancies(String textSearch, ContractType contractType, WorkMode workMode, PositionLevel positionLevel, Workload workload, Integer salaryFrom, Integer salaryTo, LocalDate uploadAt, Pageable pageable);
+    PageShortDto<VacancyShortDto> getFilteredVacancies(String textSearch, ContractType contractType, WorkMode workMode, PositionLevel positionLevel, Workload workload, Integer salaryFrom, Integer salaryTo, SalaryRangeMode salaryMode, LocalDate uploadAt, VacancySearchMode searchMode, TotalsMode totals, Pageable pageable);
 
-    PageShortDto<VacancyShortDto> getCompanyVacancies(UUID companyId, Pageable pageable);
+    VacancyFacetsDto getVacancyFacets(String textSearch, ContractType contractType, WorkMode workMode, PositionLevel positionLevel, Workload workload, Integer salaryFrom, Integer salaryTo, SalaryRangeMode salaryMode, LocalDate uploadAt, VacancySearchMode searchMode);
+
+    List<SuggestionDto> suggest(String query, int limit);
+
+    CursorPageShortDto<VacancyShortDto> scrollFilteredVacancies(String textSearch, ContractType contractType, WorkMode workMode, PositionLevel positionLevel, Workload workload, Integer salaryFrom, Integer salaryTo, SalaryRangeMode salaryMode, LocalDate uploadAt, String cursor, int size);
+
+    PageShortDto<VacancyShortDto> getCompanyVacancies(UUID companyId, TotalsMode totals, Pageable pageable);
+
+    CursorPageShortDto<VacancyShortDto> scrollCompanyVacancies(UUID companyId, String cursor, int size);
 
     Map<UUID, Long> countCompanyVacancies(Set<UUID> companyIds);
 }
@@ -2,19 +2,22 @@ package org.yaroslaavl.recruitingservice.service.impl;
 
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
-import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.yaroslaavl.recruitingservice.broker.RecruitingAppNotificationEventPublisher;
 import org.yaroslaavl.recruitingservice.database.entity.Application;
 import org.yaroslaavl.recruitingservice.database.entity.ApplicationHistory;
+import org.yaroslaavl.recruitingservice.database.entity.CandidateProfile;
 import org.yaroslaavl.recruitingservice.database.entity.Vacancy;
 import org.yaroslaavl.recruitingservice.database.entity.enums.Credentials;
 import org.yaroslaavl.recruitingservice.database.entity.enums.RecruitingSystemStatus;
+import org.yaroslaavl.recruitingservice.database.entity.enums.TotalsMode;
 import org.yaroslaavl.recruitingservice.database.entity.enums.VacancyStatus;
+import org.yaroslaavl.recruitingservice.database.projection.CandidateApplicationCard;
 import org.yaroslaavl.recruitingservice.database.repository.ApplicationHistoryRepository;
 import org.yaroslaavl.recruitingservice.database.repository.ApplicationRepository;
 import org.yaroslaavl.recruitingservice.database.repository.VacancyRepository;
@@ -28,15 +31,27 @@ import org.yaroslaavl.recruitingservice.feignClient.cv.CvFeignClient;
 import org.yaroslaavl.recruitingservice.feignClient.dto.ApplicationChatInfo;
 import org.yaroslaavl.recruitingservice.feignClient.dto.CVApplicationDto;
 import org.yaroslaavl.recruitingservice.feignClient.dto.CompanyPreviewFeignDto;
-import org.yaroslaavl.recruitingservice.feignClient.user.UserFeignClient;
-import org.yaroslaavl.recruitingservice.feignClient.dto.UserFeignDto;
+import org.yaroslaavl.recruitingservice.feignClient.user.CandidateProfileProjection;
+import org.yaroslaavl.recruitingservice.feignClient.user.CompanyPreviewCache;
+import org.yaroslaavl.recruitingservice.feignClient.user.UserApprovalProjection;
 import org.yaroslaavl.recruitingservice.mapper.ApplicationMapper;
+import org.yaroslaavl.recruitingservice.mapper.helper.ApplicationMapperHelper;
 import org.yaroslaavl.recruitingservice.service.ApplicationService;
 import org.yaroslaavl.recruitingservice.service.SecurityContextService;
+import org.yaroslaavl.recruitingservice.service.search.VacancySearchIndex;
+import org.yaroslaavl.recruitingservice.service.search.VacancySearchResultCache;
 import org.yaroslaavl.recruitingservice.util.NotificationStore;
+import org.yaroslaavl.recruitingservice.util.PageTotalsResolver;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -45,13 +60,21 @@ import java.util.stream.Collectors;
 public class ApplicationServiceImpl implements ApplicationService {
 
     private final CvFeignClient cvFeignClient;
-    private final UserFeignClient userFeignClient;
+    private final CandidateProfileProjection candidateProfileProjection;
+    private final UserApprovalProjection userApprovalProjection;
+    private final CompanyPreviewCache companyPreviewCache;
     private final ApplicationRepository applicationRepository;
     private final SecurityContextService securityContextService;
     private final ApplicationHistoryRepository applicationHistoryRepository;
     private final VacancyRepository vacancyRepository;
     private final ApplicationMapper applicationMapper;
+    private final ApplicationMapperHelper applicationMapperHelper;
     private final RecruitingAppNotificationEventPublisher publisher;
+    private final PageTotalsResolver pageTotalsResolver;
+    private final VacancySearchIndex vacancySearchIndex;
+    private final VacancySearchResultCache vacancySearchResultCache;
+
+    private final ExecutorService remoteCheckExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     private static final Map<RecruitingSystemStatus, EnumSet<RecruitingSystemStatus>> ALLOWED_STATUSES = Map.of(
             RecruitingSystemStatus.NEW, EnumSet.noneOf(RecruitingSystemStatus.class),
@@ -71,6 +94,10 @@ public class ApplicationServiceImpl implements ApplicationService {
      * checks for any existing application for the given recruiting, and either updates the application
      * or creates a new one based on the current status. Throws exceptions if the candidate is not
      * approved, the CV is not available, or if there are blocking conditions due to existing applications.
+     * <p>
+     * The approval and CV checks run concurrently on virtual threads while the vacancy and the existing application
+     * are looked up on the calling thread, which owns the transaction. The first rejection fails the request without
+     * waiting for the other checks, and the checks still running are interrupted.
      *
      * @param vacancyApplicationRequestDto the data transfer object containing information about the vacancy
      *                                     application, including the vacancy ID, CV ID, and cover letter
@@ -81,28 +108,38 @@ public class ApplicationServiceImpl implements ApplicationService {
         log.info("Applying vacancy: {}", vacancyApplicationRequestDto.vacancyId());
 
         String candidateKeyId = securityContextService.getSecurityContext(Credentials.SUB);
-        boolean approved = userFeignClient.isApproved(candidateKeyId);
-
-        if (!approved) {
-            throw new CandidateAccountStatusException("User is not approved");
-        }
-
-        CVApplicationDto cvForRecruiter = cvFeignClient.getCvForRecruiter(vacancyApplicationRequestDto.cvId());
-
-        if (cvForRecruiter == null) {
-            throw new GetCvException("Cv is not found or not readable");
-        }
-
-        Vacancy vacancy = vacancyRepository.findById(vacancyApplicationRequestDto.vacancyId()).orElseThrow(
-                () -> new EntityNotFoundException("Vacancy with id: " + vacancyApplicationRequestDto.vacancyId() + " not found"));
+        RemoteChecks remoteChecks = startRemoteChecks(
+                () -> {
+                    if (!userApprovalProjection.isApproved(candidateKeyId)) {
+                        throw new CandidateAccountStatusException("User is not approved");
+                    }
+                },
+                () -> {
+                    CVApplicationDto cvForRecruiter = cvFeignClient.getCvForRecruiter(vacancyApplicationRequestDto.cvId());
+                    if (cvForRecruiter == null) {
+                        throw new GetCvException("Cv is not found or not readable");
+                    }
+                });
+
+        Optional<Application> optionalApplication;
+        Vacancy vacancy;
+        try {
+            vacancy = vacancyRepository.findById(vacancyApplicationRequestDto.vacancyId()).orElseThrow(
+                    () -> new EntityNotFoundException("Vacancy with id: " + vacancyApplicationRequestDto.vacancyId() + " not found"));
+
+            if (vacancy.getStatus() == VacancyStatus.ARCHIVED) {
+                throw new RuntimeException("Vacancy is archived");
+            }
 
-        if (vacancy.getStatus() == VacancyStatus.ARCHIVED) {
-            throw new RuntimeException("Vacancy is archived");
+            optionalApplication = applicationRepository.findByVacancyIdAndCandidateId(
+                    vacancyApplicationRequestDto.vacancyId(),
+                    candidateKeyId);
+        } catch (RuntimeException e) {
+            remoteChecks.cancel();
+            throw e;
         }
 
-        Optional<Application> optionalApplication = applicationRepository.findByVacancyIdAndCandidateId(
-                vacancyApplicationRequestDto.vacancyId(),
-                candidateKeyId);
+        remoteChecks.await();
 
         UUID applicationSendId = null;
 
@@ -158,9 +195,17 @@ public class ApplicationServiceImpl implements ApplicationService {
 
     /**
      * Retrieves a paginated and filtered list of application responses for a given vacancy and status.
+     * The candidate filters are matched against the local candidate profiles in the same query, so only
+     * the applications of this vacancy are read; applications of candidates whose profile has not arrived yet are
+     * returned, with empty profile fields, only when no candidate filter is given.
      *
      * @param vacancyId the unique identifier of the vacancy for which applications are being retrieved
      * @param status the status filter to apply when retrieving the applications
+     * @param salary the highest expected salary a candidate may ask for
+     * @param workMode the work mode a candidate must prefer
+     * @param availableHoursPerWeek the least number of hours per week a candidate must be available
+     * @param availableFrom the latest date from which a candidate must be available
+     * @param totals how the total number of applications is obtained
      * @param pageable the pagination and sorting information
      * @return a page of application response DTOs that match the given vacancyId and status
      * @throws EntityNotFoundException if no vacancy with the specified vacancyId exists
@@ -170,10 +215,11 @@ public class ApplicationServiceImpl implements ApplicationService {
     @Override
     public PageShortDto<ApplicationShortDto> getFilteredApplications(UUID vacancyId,
                                                                      RecruitingSystemStatus status,
-                                                                     String salary,
+                                                                     Integer salary,
                                                                      String workMode,
                                                                      Integer availableHoursPerWeek,
-                                                                     String availableFrom,
+                                                                     LocalDate availableFrom,
+                                                                     TotalsMode totals,
                                                                      Pageable pageable) {
         String recruiterKeyId = securityContextService.getSecurityContext(Credentials.SUB);
 
@@ -184,24 +230,26 @@ public class ApplicationServiceImpl implements ApplicationService {
             throw new RecruiterNotBelongToCompanyOrVacancyException("Recruiter is not belong to vacancy");
         }
 
-        Map<String, UserFeignDto> filteredCandidates = Optional.ofNullable(
-                        userFeignClient.getFilteredCandidates(salary, workMode, availableHoursPerWeek, availableFrom))
-                .orElse(Collections.emptyMap());
-
-        List<@NotBlank String> userFilteredIds = filteredCandidates.keySet().stream().toList();
-
-        Page<Application> applicationsByVacancyIdAndStatus = applicationRepository.findApplicationsByVacancyIdAndStatus(vacancyId, status, userFilteredIds, pageable);
+        Slice<Application> applicationsByVacancyIdAndStatus = pageTotalsResolver.fetch(totals,
+                Arrays.asList("vacancy-applications", vacancyId, status, salary, workMode, availableHoursPerWeek, availableFrom), pageable,
+                () -> applicationRepository.findApplicationsByVacancyIdAndStatus(
+                        vacancyId, status, salary, workMode, availableHoursPerWeek, availableFrom, pageable),
+                () -> applicationRepository.sliceApplicationsByVacancyIdAndStatus(
+                        vacancyId, status, salary, workMode, availableHoursPerWeek, availableFrom, pageable));
 
         if (applicationsByVacancyIdAndStatus.isEmpty()) {
             log.info("No applications found for recruiting with id: {}", vacancyId);
             return new PageShortDto<>(Collections.emptyList(), 0, 0, 0, 0);
         }
-        return new PageShortDto<>(
-                applicationMapper.toShortDto(applicationsByVacancyIdAndStatus.getContent(), filteredCandidates),
-                applicationsByVacancyIdAndStatus.getTotalElements(),
-                applicationsByVacancyIdAndStatus.getTotalPages(),
-                applicationsByVacancyIdAndStatus.getNumber(),
-                applicationsByVacancyIdAndStatus.getSize());
+
+        Map<String, CandidateProfile> candidateProfiles = candidateProfileProjection.findProfiles(
+                applicationsByVacancyIdAndStatus.getContent().stream()
+                        .map(Application::getCandidateId)
+                        .collect(Collectors.toSet()));
+        return PageShortDto.of(
+                applicationMapper.toShortDto(applicationsByVacancyIdAndStatus.getContent(), candidateProfiles),
+                applicationsByVacancyIdAndStatus,
+                totals);
     }
 
     /**
@@ -272,8 +320,13 @@ public class ApplicationServiceImpl implements ApplicationService {
 
         boolean isApproved = newStatus == RecruitingSystemStatus.ACCEPTED;
         if (isApproved) {
+            boolean wasEnabled = application.getVacancy().getStatus() == VacancyStatus.ENABLED;
             application.getVacancy().setStatus(VacancyStatus.ARCHIVED);
             vacancyRepository.save(application.getVacancy());
+            vacancySearchIndex.refresh(Set.of(application.getVacancy().getId()));
+            if (wasEnabled) {
+                vacancySearchResultCache.invalidateAll();
+            }
             publisher.publishInAppNotification(NotificationStore.inAppNotification(null, application.getCandidateId(), String.valueOf(application.getId()), "APPLICATION_APPROVED",
                     Map.of("vacancyTitle", application.getVacancy().getTitle(),
                             "approvedAt", LocalDateTime.now().toString())));
@@ -290,26 +343,26 @@ public class ApplicationServiceImpl implements ApplicationService {
     }
 
     @Override
-    public PageShortDto<CandidateApplicationsShortDto> getMyApplications(Pageable pageable) {
-        Page<Application> applications
-                = applicationRepository.findApplicationsByCandidateId(securityContextService.getSecurityContext(Credentials.SUB), pageable);
+    public PageShortDto<CandidateApplicationsShortDto> getMyApplications(TotalsMode totals, Pageable pageable) {
+        String candidateId = securityContextService.getSecurityContext(Credentials.SUB);
+        Slice<CandidateApplicationCard> applications = pageTotalsResolver.fetch(totals, List.of("candidate-applications", candidateId), pageable,
+                () -> applicationRepository.findApplicationsByCandidateId(candidateId, pageable),
+                () -> applicationRepository.sliceApplicationsByCandidateId(candidateId, pageable));
 
         Map<UUID, CompanyPreviewFeignDto> companyPreview =
-                userFeignClient.previewInfo(applications.getContent().stream()
-                        .map(Application::getVacancy)
-                        .map(Vacancy::getCompanyId)
+                companyPreviewCache.previewInfo(applications.getContent().stream()
+                        .map(CandidateApplicationCard::companyId)
                         .collect(Collectors.toSet()));
 
         if (applications.getContent().isEmpty()) {
             return new PageShortDto<>(Collections.emptyList(), 0, 0, 0, 0);
         }
 
-        return new PageShortDto<>(
-                applicationMapper.toCandidateShortDto(applications.getContent(),  companyPreview),
-                applications.getTotalElements(),
-                applications.getTotalPages(),
-                applications.getNumber(),
-                applications.getSize()
+        return PageShortDto.of(
+                applicationMapper.toCandidateShortDto(applications.getContent(), companyPreview,
+                        applicationMapperHelper.resolveApplicationNumbers(applications.getContent())),
+                applications,
+                totals
         );
     }
 
@@ -329,10 +382,53 @@ public class ApplicationServiceImpl implements ApplicationService {
                 .map(Vacancy::getCompanyId)
                 .collect(Collectors.toSet());
 
-        Map<UUID, CompanyPreviewFeignDto> companiesInfo = userFeignClient.previewInfo(companyIds);
+        Map<UUID, CompanyPreviewFeignDto> companiesInfo = companyPreviewCache.previewInfo(companyIds);
         return applicationMapper.toApplicationChatInfo(applications, companiesInfo);
     }
 
+    private RemoteChecks startRemoteChecks(Runnable... checks) {
+        CompletableFuture<Void> outcome = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(checks.length);
+        List<Future<?>> tasks = new ArrayList<>(checks.length);
+
+        for (Runnable check : checks) {
+            tasks.add(remoteCheckExecutor.submit(() -> {
+                try {
+                    check.run();
+                    if (pending.decrementAndGet() == 0) {
+                        outcome.complete(null);
+                    }
+                } catch (Throwable failure) {
+                    outcome.completeExceptionally(failure);
+                }
+            }));
+        }
+        return new RemoteChecks(tasks, outcome);
+    }
+
+    /**
+     * Remote checks running on {@code remoteCheckExecutor}. {@code outcome} fails with the first rejection and
+     * completes once every check passed; {@code tasks} are kept so the checks themselves can be interrupted.
+     */
+    private record RemoteChecks(List<Future<?>> tasks, CompletableFuture<Void> outcome) {
+
+        void await() {
+            try {
+                outcome.join();
+            } catch (CompletionException e) {
+                cancel();
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        void cancel() {
+            tasks.forEach(task -> task.cancel(true));
+        }
+    }
+
     private void applicationHistoryChanger(Application application,
                                            RecruitingSystemStatus status, boolean isInitialApplication) {
 
@@ -1,9 +1,12 @@
 package org.yaroslaavl.recruitingservice.service.impl;
 
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.yaroslaavl.recruitingservice.database.entity.Category;
+import org.yaroslaavl.recruitingservice.database.entity.enums.CategorySearchMode;
 import org.yaroslaavl.recruitingservice.database.repository.CategoryRepository;
 import org.yaroslaavl.recruitingservice.dto.response.CategoryResponseDto;
 import org.yaroslaavl.recruitingservice.mapper.CategoryMapper;
@@ -21,20 +24,31 @@ public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
 
+    @Value("${search.trigram.similarity_threshold:0.5}")
+    private Double trigramSimilarityThreshold;
+
     /**
      * Retrieves a list of categories filtered by their names.
-     * The filtering is case-insensitive and supports partial matches.
+     * The filtering is case-insensitive and supports partial matches. In {@code TRIGRAM} mode misspelled names
+     * match as well, and the closest matches are returned first.
      * If no search name is provided, all categories are returned.
      *
      * @param searchName the name or partial name to filter the categories by; can be null to indicate no filtering
+     * @param searchMode the matching strategy, {@code LIKE} when null
      * @return a list of {@code CategoryResponseDto} containing the filtered categories' details
      */
     @Override
-    public List<CategoryResponseDto> findFilteredCategories(String searchName) {
-        log.info("Filtering categories by name: {}", searchName);
+    @Transactional
+    public List<CategoryResponseDto> findFilteredCategories(String searchName, CategorySearchMode searchMode) {
+        log.info("Filtering categories by name: {} in mode: {}", searchName, searchMode);
 
-        List<Category> filteredCategories
-                = categoryRepository.findFilteredCategories(searchName);
+        List<Category> filteredCategories;
+        if (searchMode == CategorySearchMode.TRIGRAM && searchName != null && !searchName.isBlank()) {
+            categoryRepository.applyWordSimilarityThreshold(String.valueOf(trigramSimilarityThreshold));
+            filteredCategories = categoryRepository.findSimilarCategories(searchName);
+        } else {
+            filteredCategories = categoryRepository.findFilteredCategories(searchName);
+        }
 
         if (filteredCategories.isEmpty()) {
             log.info("No categories found");
@@ -7,12 +7,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.yaroslaavl.recruitingservice.broker.RecruitingAppNotificationEventPublisher;
 import org.yaroslaavl.recruitingservice.database.entity.ReportSystem;
 import org.yaroslaavl.recruitingservice.database.entity.Vacancy;
 import org.yaroslaavl.recruitingservice.database.entity.enums.Credentials;
 import org.yaroslaavl.recruitingservice.database.entity.enums.RecruitingSystemStatus;
+import org.yaroslaavl.recruitingservice.database.entity.enums.TotalsMode;
 import org.yaroslaavl.recruitingservice.database.entity.enums.VacancyStatus;
 import org.yaroslaavl.recruitingservice.database.repository.ReportSystemRepository;
 import org.yaroslaavl.recruitingservice.database.repository.VacancyRepository;
@@ -24,10 +26,12 @@ import org.yaroslaavl.recruitingservice.dto.response.VacancyAlreadyReportedInfo;
 import org.yaroslaavl.recruitingservice.dto.response.list.UserReportsShortDto;
 import org.yaroslaavl.recruitingservice.exception.*;
 import org.yaroslaavl.recruitingservice.dto.response.ReportSystemLimitInfo;
-import org.yaroslaavl.recruitingservice.feignClient.user.UserFeignClient;
+import org.yaroslaavl.recruitingservice.feignClient.user.UserDisplayNameLoader;
+import org.yaroslaavl.recruitingservice.feignClient.user.UserApprovalProjection;
 import org.yaroslaavl.recruitingservice.mapper.ReportSystemMapper;
 import org.yaroslaavl.recruitingservice.service.ReportSystemService;
 import org.yaroslaavl.recruitingservice.util.NotificationStore;
+import org.yaroslaavl.recruitingservice.util.PageTotalsResolver;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -43,10 +47,12 @@ public class ReportSystemServiceImpl implements ReportSystemService {
 
     private final ReportSystemMapper reportSystemMapper;
     private final ReportSystemRepository reportSystemRepository;
-    private final UserFeignClient userFeignClient;
+    private final UserApprovalProjection userApprovalProjection;
+    private final UserDisplayNameLoader userDisplayNameLoader;
     private final SecurityContextServiceImpl securityContextService;
     private final VacancyRepository vacancyRepository;
     private final RecruitingAppNotificationEventPublisher publisher;
+    private final PageTotalsResolver pageTotalsResolver;
     private static final Integer REPORT_TIME_SPAN_DAYS = 7;
 
     /**
@@ -66,7 +72,7 @@ public class ReportSystemServiceImpl implements ReportSystemService {
     public void report(ReportRequestDto reportRequestDto) {
         String userId = securityContextService.getSecurityContext(Credentials.SUB);
         boolean approved
-                = userFeignClient.isApproved(userId);
+                = userApprovalProjection.isApproved(userId);
 
         if (approved) {
             Vacancy vacancy = getVacancy(reportRequestDto.vacancyId());
@@ -136,31 +142,27 @@ public class ReportSystemServiceImpl implements ReportSystemService {
      * Retrieves a paginated list of filtered report summaries for a given status.
      *
      * @param status the filtering status used to retrieve reports (e.g., NEW, RESOLVED, etc.)
+     * @param totals how the total number of reports is obtained
      * @param pageable an object specifying pagination and sorting information
      * @return a paginated list of {@link ReportSystemShortDto} representing the filtered reports
      */
     @Override
-    public PageShortDto<ReportSystemShortDto> getFilteredReports(RecruitingSystemStatus status, Pageable pageable) {
+    public PageShortDto<ReportSystemShortDto> getFilteredReports(RecruitingSystemStatus status, TotalsMode totals, Pageable pageable) {
         log.info("Getting filtered reports with status {}", status);
 
-        Page<ReportSystem> reportSystemsByFilteredStatus
-                = reportSystemRepository.findReportSystemsByFilteredStatus(status, pageable);
+        Slice<ReportSystem> reportSystemsByFilteredStatus = pageTotalsResolver.fetch(totals, Arrays.asList("reports", status), pageable,
+                () -> reportSystemRepository.findReportSystemsByFilteredStatus(status, pageable),
+                () -> reportSystemRepository.sliceReportSystemsByFilteredStatus(status, pageable));
 
         Set<String> userIds = reportSystemsByFilteredStatus.stream().map(ReportSystem::getUserId).collect(Collectors.toSet());
 
-        Map<String, String> usersDisplayName = userFeignClient.usersDisplayName(userIds, securityContextService.getSecurityContext(Credentials.EMAIL));
+        Map<String, String> usersDisplayName = userDisplayNameLoader.usersDisplayName(userIds, securityContextService.getSecurityContext(Credentials.EMAIL));
 
-        if (usersDisplayName == null) {
-            usersDisplayName = Map.of();
-        }
-
-        log.info("Found {} filtered reports", reportSystemsByFilteredStatus.getTotalElements());
-        return new PageShortDto<>(
+        log.info("Found {} filtered reports on page {}", reportSystemsByFilteredStatus.getNumberOfElements(), reportSystemsByFilteredStatus.getNumber());
+        return PageShortDto.of(
                 reportSystemMapper.toShortDto(reportSystemsByFilteredStatus.getContent(), usersDisplayName),
-                reportSystemsByFilteredStatus.getTotalElements(),
-                reportSystemsByFilteredStatus.getTotalPages(),
-                reportSystemsByFilteredStatus.getNumber(),
-                reportSystemsByFilteredStatus.getSize());
+                reportSystemsByFilteredStatus,
+                totals);
     }
 
     @Override
@@ -4,17 +4,27 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.yaroslaavl.recruitingservice.broker.RecruitingAppNotificationEventPublisher;
 import org.yaroslaavl.recruitingservice.database.entity.enums.*;
 import org.yaroslaavl.recruitingservice.dto.request.VacancyUpdateRequestDto;
+import org.yaroslaavl.recruitingservice.dto.response.SuggestionDto;
+import org.yaroslaavl.recruitingservice.dto.response.VacancyFacetsDto;
 import org.yaroslaavl.recruitingservice.dto.response.VacancyResponseDto;
+import org.yaroslaavl.recruitingservice.dto.response.list.CursorPageShortDto;
 import org.yaroslaavl.recruitingservice.dto.response.list.PageShortDto;
 import org.yaroslaavl.recruitingservice.dto.response.list.VacancyShortDto;
 import org.yaroslaavl.recruitingservice.exception.CreationFailedException;
+import org.yaroslaavl.recruitingservice.exception.InvalidCursorException;
 import org.yaroslaavl.recruitingservice.database.entity.Vacancy;
+import org.yaroslaavl.recruitingservice.database.projection.VacancyCard;
 import org.yaroslaavl.recruitingservice.database.repository.VacancyRepository;
 import org.yaroslaavl.recruitingservice.dto.request.VacancyRequestDto;
 import org.yaroslaavl.recruitingservice.exception.RecruiterNotBelongToCompanyOrVacancyException;
@@ -22,7 +32,16 @@ import org.yaroslaavl.recruitingservice.feignClient.dto.CompanyPreviewFeignDto;
 import org.yaroslaavl.recruitingservice.mapper.VacancyMapper;
 import org.yaroslaavl.recruitingservice.service.SecurityContextService;
 import org.yaroslaavl.recruitingservice.service.VacancyService;
-import org.yaroslaavl.recruitingservice.feignClient.user.UserFeignClient;
+import org.yaroslaavl.recruitingservice.service.search.VacancyFacetCounter;
+import org.yaroslaavl.recruitingservice.service.search.VacancyFacetRow;
+import org.yaroslaavl.recruitingservice.service.search.VacancySearchCriteria;
+import org.yaroslaavl.recruitingservice.service.search.VacancySearchIndex;
+import org.yaroslaavl.recruitingservice.service.search.VacancySearchResultCache;
+import org.yaroslaavl.recruitingservice.feignClient.user.CompanyPreviewCache;
+import org.yaroslaavl.recruitingservice.feignClient.user.RecruiterMembershipCache;
+import org.yaroslaavl.recruitingservice.util.KeysetCursor;
+import org.yaroslaavl.recruitingservice.util.PageTotalsResolver;
+import org.yaroslaavl.recruitingservice.util.VacancyOwnershipContext;
 import org.yaroslaavl.recruitingservice.util.NotificationStore;
 
 import java.time.LocalDate;
@@ -36,11 +55,31 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class VacancyServiceImpl implements VacancyService {
 
+    @Value("${search.trigram.similarity_threshold:0.5}")
+    private Double trigramSimilarityThreshold;
+
+    @Value("${search.facets.salary_bucket_size:5000}")
+    private Integer salaryBucketSize;
+
+    @Value("${search.facets.salary_bucket_count:6}")
+    private Integer salaryBucketCount;
+
+    @Value("${search.suggest.max_limit:20}")
+    private Integer suggestMaxLimit;
+
+    @Value("${search.scroll.max_size:100}")
+    private Integer scrollMaxSize;
+
     private final VacancyMapper vacancyMapper;
     private final VacancyRepository vacancyRepository;
     private final SecurityContextService securityContextService;
-    private final UserFeignClient userFeignClient;
+    private final RecruiterMembershipCache recruiterMembershipCache;
+    private final VacancyOwnershipContext vacancyOwnershipContext;
+    private final CompanyPreviewCache companyPreviewCache;
     private final RecruitingAppNotificationEventPublisher publisher;
+    private final PageTotalsResolver pageTotalsResolver;
+    private final VacancySearchIndex vacancySearchIndex;
+    private final VacancySearchResultCache vacancySearchResultCache;
 
     /**
      * Creates a new vacancy based on the provided vacancy request data.
@@ -94,7 +133,15 @@ public class VacancyServiceImpl implements VacancyService {
     public void delete(UUID vacancyId, UUID companyId) {
         String recruiterKeyId = checkRecruiterCompanyAndVacancyReturnRecruiterId(companyId, Boolean.TRUE, vacancyId);
 
+        boolean wasEnabled = vacancyRepository.findById(vacancyId)
+                .map(vacancy -> vacancy.getStatus() == VacancyStatus.ENABLED)
+                .orElse(false);
+
         vacancyRepository.deleteById(vacancyId);
+        vacancySearchIndex.remove(vacancyId);
+        if (wasEnabled) {
+            vacancySearchResultCache.invalidateAll();
+        }
         log.info("Deleted vacancy: {} by recruiter with id: {}]", vacancyId, recruiterKeyId);
     }
 
@@ -118,7 +165,12 @@ public class VacancyServiceImpl implements VacancyService {
 
         String recruiterKeyId = checkRecruiterCompanyAndVacancyReturnRecruiterId(vacancyUpdateRequestDto.companyId(), Boolean.TRUE, vacancyId);
 
-        vacancyMapper.updateEntity(vacancyUpdateRequestDto, vacancyRepository.findById(vacancyId).orElseThrow());
+        Vacancy vacancy = vacancyRepository.findById(vacancyId).orElseThrow();
+        vacancyMapper.updateEntity(vacancyUpdateRequestDto, vacancy);
+        vacancySearchIndex.refresh(Set.of(vacancyId));
+        if (vacancy.getStatus() == VacancyStatus.ENABLED) {
+            vacancySearchResultCache.invalidateAll();
+        }
         log.info("Updated vacancy by recruiter with id: {}", recruiterKeyId);
     }
 
@@ -140,15 +192,32 @@ public class VacancyServiceImpl implements VacancyService {
      * @param workload     the workload (e.g., FULL, PART_TIME) to filter vacancies by
      * @param salaryFrom   the minimum salary threshold for filtering vacancies
      * @param salaryTo     the maximum salary threshold for filtering vacancies
+     * @param salaryMode   whether the vacancy salary range must lie within the thresholds or only overlap them
+     * @param uploadAt     the day the vacancies were uploaded; when null, every vacancy since 2025 is considered
+     * @param searchMode   the text matching strategy; FULL_TEXT uses the ranked tsvector index, TRIGRAM tolerates
+     *                     partial words and typos ordered by similarity, LIKE keeps plain substring matching
+     * @param totals       how the total number of matches is obtained: EXACT counts every request,
+     *                     ESTIMATED reuses a periodically refreshed count, NONE skips it
      * @param pageable     the pagination information for retrieving paginated results
      *
      * @return a paginated DTO containing a list of filtered vacancies, each represented by a VacancyShortDto
      */
     @Override
-    public PageShortDto<VacancyShortDto> getFilteredVacancies(String textSearch, ContractType contractType, WorkMode workMode, PositionLevel positionLevel, Workload workload, Integer salaryFrom, Integer salaryTo, LocalDate uploadAt, Pageable pageable) {
-        log.info("Getting vacancies by filtered textSearch: {}, contractType: {}, workMode: {}, position: {}, workload: {}",
-                textSearch, contractType, workMode, positionLevel, workload);
+    @Transactional
+    public PageShortDto<VacancyShortDto> getFilteredVacancies(String textSearch, ContractType contractType, WorkMode workMode, PositionLevel positionLevel, Workload workload, Integer salaryFrom, Integer salaryTo, SalaryRangeMode salaryMode, LocalDate uploadAt, VacancySearchMode searchMode, TotalsMode totals, Pageable pageable) {
+        log.info("Getting vacancies by filtered textSearch: {}, contractType: {}, workMode: {}, position: {}, workload: {}, searchMode: {}",
+                textSearch, contractType, workMode, positionLevel, workload, searchMode);
+
+        boolean hasTextSearch = textSearch != null && !textSearch.isBlank();
+        List<?> searchKey = Arrays.asList(textSearch != null ? textSearch.toLowerCase(Locale.ROOT) : null,
+                contractType, workMode, positionLevel, workload, salaryFrom, salaryTo, salaryModeName(salaryMode), uploadAt,
+                hasTextSearch ? searchMode : null, totals, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
 
+        return vacancySearchResultCache.get(searchKey, pageable.getPageNumber(), () -> searchVacancies(textSearch, contractType,
+                workMode, positionLevel, workload, salaryFrom, salaryTo, salaryMode, uploadAt, searchMode, totals, pageable));
+    }
+
+    private PageShortDto<VacancyShortDto> searchVacancies(String textSearch, ContractType contractType, WorkMode workMode, PositionLevel positionLevel, Workload workload, Integer salaryFrom, Integer salaryTo, SalaryRangeMode salaryMode, LocalDate uploadAt, VacancySearchMode searchMode, TotalsMode totals, Pageable pageable) {
         LocalDateTime selectedDateStart = LocalDateTime.of(2025, 1, 1, 0, 0);
         LocalDateTime selectedDateEnd = LocalDateTime.now();
 
@@ -157,53 +226,220 @@ public class VacancyServiceImpl implements VacancyService {
             selectedDateEnd = uploadAt.atTime(LocalTime.MAX);
         }
 
-        Page<Vacancy> filteredVacancies = vacancyRepository.getFilteredVacancies(textSearch, contractType, workMode, positionLevel, workload, salaryFrom, salaryTo, selectedDateStart, selectedDateEnd, pageable);
+        boolean hasTextSearch = textSearch != null && !textSearch.isBlank();
+        LocalDateTime dateStart = selectedDateStart;
+        LocalDateTime dateEnd = selectedDateEnd;
+        List<?> filterKey = Arrays.asList("vacancy-search", textSearch, contractType, workMode, positionLevel,
+                workload, salaryFrom, salaryTo, salaryMode, uploadAt, searchMode);
+
+        Slice<VacancyCard> filteredVacancies;
+        Optional<Page<UUID>> indexedVacancyIds = !hasTextSearch || searchMode == VacancySearchMode.LIKE
+                ? vacancySearchIndex.search(new VacancySearchCriteria(textSearch, contractType, workMode, positionLevel,
+                        workload, salaryFrom, salaryTo, salaryMode, dateStart, dateEnd), pageable)
+                : Optional.empty();
+
+        if (indexedVacancyIds.isPresent()) {
+            filteredVacancies = hydrateVacancies(indexedVacancyIds.get());
+            totals = TotalsMode.EXACT;
+        } else if (hasTextSearch && searchMode == VacancySearchMode.FULL_TEXT) {
+            Slice<UUID> vacancyIds = pageTotalsResolver.fetch(totals, filterKey, pageable,
+                    () -> vacancyRepository.getFullTextFilteredVacancyIds(textSearch,
+                            enumName(contractType), enumName(workMode), enumName(positionLevel), enumName(workload),
+                            salaryFrom, salaryTo, salaryModeName(salaryMode), dateStart, dateEnd, pageable),
+                    () -> vacancyRepository.sliceFullTextFilteredVacancyIds(textSearch,
+                            enumName(contractType), enumName(workMode), enumName(positionLevel), enumName(workload),
+                            salaryFrom, salaryTo, salaryModeName(salaryMode), dateStart, dateEnd, pageable));
+
+            filteredVacancies = hydrateVacancies(vacancyIds);
+        } else if (hasTextSearch && searchMode == VacancySearchMode.TRIGRAM) {
+            vacancyRepository.applyWordSimilarityThreshold(String.valueOf(trigramSimilarityThreshold));
+            Slice<UUID> vacancyIds = pageTotalsResolver.fetch(totals, filterKey, pageable,
+                    () -> vacancyRepository.getTrigramFilteredVacancyIds(textSearch,
+                            enumName(contractType), enumName(workMode), enumName(positionLevel), enumName(workload),
+                            salaryFrom, salaryTo, salaryModeName(salaryMode), dateStart, dateEnd, pageable),
+                    () -> vacancyRepository.sliceTrigramFilteredVacancyIds(textSearch,
+                            enumName(contractType), enumName(workMode), enumName(positionLevel), enumName(workload),
+                            salaryFrom, salaryTo, salaryModeName(salaryMode), dateStart, dateEnd, pageable));
+
+            filteredVacancies = hydrateVacancies(vacancyIds);
+        } else {
+            filteredVacancies = pageTotalsResolver.fetch(totals, filterKey, pageable,
+                    () -> vacancyRepository.getFilteredVacancies(textSearch, contractType, workMode, positionLevel, workload, salaryFrom, salaryTo, salaryModeName(salaryMode), dateStart, dateEnd, pageable),
+                    () -> vacancyRepository.sliceFilteredVacancies(textSearch, contractType, workMode, positionLevel, workload, salaryFrom, salaryTo, salaryModeName(salaryMode), dateStart, dateEnd, pageable));
+        }
 
         if (filteredVacancies.isEmpty()) {
             log.info("No vacancies found");
             return new PageShortDto<>(Collections.emptyList(), 0, 0, 0, 0);
         }
 
-        Map<UUID, CompanyPreviewFeignDto> companyPreview = userFeignClient.previewInfo(filteredVacancies.getContent()
+        Map<UUID, CompanyPreviewFeignDto> companyPreview = companyPreviewCache.previewInfo(filteredVacancies.getContent()
                 .stream()
-                .map(Vacancy::getCompanyId)
+                .map(VacancyCard::companyId)
                 .collect(Collectors.toSet()));
 
-        return new PageShortDto<>(
-                vacancyMapper.toShortDto(filteredVacancies.getContent(), companyPreview),
-                filteredVacancies.getTotalElements(),
-                filteredVacancies.getTotalPages(),
-                filteredVacancies.getNumber(),
-                filteredVacancies.getSize());
+        return PageShortDto.of(vacancyMapper.toShortDto(filteredVacancies.getContent(), companyPreview), filteredVacancies, totals);
+    }
+
+    /**
+     * Counts the vacancies of a search per contract type, work mode, position level, workload and salary bucket.
+     * Every histogram is built in one pass over the matching vacancies, from the in-memory index when it can
+     * answer the search, otherwise from a single grouped query.
+     *
+     * @param textSearch    the text to search within vacancy titles, locations or categories
+     * @param contractType  the selected contract type, ignored by the contract type counts
+     * @param workMode      the selected work mode, ignored by the work mode counts
+     * @param positionLevel the selected position level, ignored by the position level counts
+     * @param workload      the selected workload, ignored by the workload counts
+     * @param salaryFrom    the minimum salary, ignored by the salary buckets
+     * @param salaryTo      the maximum salary, ignored by the salary buckets
+     * @param salaryMode    whether the vacancy salary range must lie within salaryFrom..salaryTo or only overlap it
+     * @param uploadAt      the day the vacancies were uploaded; when null, every vacancy since 2025 is considered
+     * @param searchMode    the text matching strategy, as in the vacancy search
+     * @return the total number of matching vacancies and the count of every facet value
+     */
+    @Override
+    @Transactional
+    public VacancyFacetsDto getVacancyFacets(String textSearch, ContractType contractType, WorkMode workMode, PositionLevel positionLevel, Workload workload, Integer salaryFrom, Integer salaryTo, SalaryRangeMode salaryMode, LocalDate uploadAt, VacancySearchMode searchMode) {
+        log.info("Counting vacancy facets for: {}", textSearch);
+
+        LocalDateTime selectedDateStart = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime selectedDateEnd = LocalDateTime.now();
+
+        if (uploadAt != null) {
+            selectedDateStart = uploadAt.atStartOfDay();
+            selectedDateEnd = uploadAt.atTime(LocalTime.MAX);
+        }
+
+        String text = textSearch == null || textSearch.isBlank() ? "" : textSearch;
+        VacancySearchCriteria criteria = new VacancySearchCriteria(text, contractType, workMode, positionLevel,
+                workload, salaryFrom, salaryTo, salaryMode, selectedDateStart, selectedDateEnd);
+        VacancyFacetCounter counter = new VacancyFacetCounter(criteria, salaryBucketSize, salaryBucketCount);
+
+        if ((text.isEmpty() || searchMode == VacancySearchMode.LIKE) && vacancySearchIndex.countFacets(criteria, counter)) {
+            return counter.toDto();
+        }
+
+        if (searchMode == VacancySearchMode.TRIGRAM) {
+            vacancyRepository.applyWordSimilarityThreshold(String.valueOf(trigramSimilarityThreshold));
+        }
+
+        List<VacancyFacetRow> rows = vacancyRepository.getVacancyFacetRows(text, searchMode.name(),
+                salaryFrom, salaryTo, salaryModeName(salaryMode), salaryBucketSize, salaryBucketCount,
+                selectedDateStart, selectedDateEnd);
+
+        for (VacancyFacetRow row : rows) {
+            counter.add(enumValue(ContractType.class, row.getContractType()),
+                    enumValue(WorkMode.class, row.getWorkMode()),
+                    enumValue(PositionLevel.class, row.getPositionLevel()),
+                    enumValue(Workload.class, row.getWorkload()),
+                    row.getSalaryBucket(),
+                    row.getSalaryMatches(),
+                    row.getVacancies());
+        }
+        return counter.toDto();
+    }
+
+    /**
+     * Completes the text typed into the search box with titles, locations and category names
+     * of the ENABLED vacancies, the ones used by the most vacancies first.
+     * Answered from the in-memory search index only; nothing is suggested while it is disabled or loading.
+     *
+     * @param query the text typed so far
+     * @param limit the maximum number of suggestions, capped by {@code search.suggest.max_limit}
+     * @return the suggestions
+     */
+    @Override
+    public List<SuggestionDto> suggest(String query, int limit) {
+        log.debug("Suggesting vacancy search completions for: {}", query);
+
+        return vacancySearchIndex.suggest(query, Math.min(limit, suggestMaxLimit))
+                .orElse(List.of());
+    }
+
+    /**
+     * Retrieves the next slice of filtered vacancies, newest first, using keyset pagination.
+     * Each slice is read with a seek on {@code (createdAt, id)} instead of an offset, so deep
+     * scrolling costs the same as the first slice and no count query is executed.
+     * Text is matched with the full-text index.
+     *
+     * @param cursor the opaque cursor returned with the previous slice, or null for the first slice
+     * @param size   the maximum number of vacancies in the slice, kept between 1 and {@code search.scroll.max_size}
+     * @return a slice of vacancies and the cursor of the next slice, which is null when there are no more vacancies
+     *
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    @Override
+    public CursorPageShortDto<VacancyShortDto> scrollFilteredVacancies(String textSearch, ContractType contractType, WorkMode workMode, PositionLevel positionLevel, Workload workload, Integer salaryFrom, Integer salaryTo, SalaryRangeMode salaryMode, LocalDate uploadAt, String cursor, int size) {
+        log.info("Scrolling vacancies by filtered textSearch: {}, contractType: {}, workMode: {}, position: {}, workload: {}, cursor: {}",
+                textSearch, contractType, workMode, positionLevel, workload, cursor);
+
+        LocalDateTime selectedDateStart = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime selectedDateEnd = LocalDateTime.now();
+
+        if (uploadAt != null) {
+            selectedDateStart = uploadAt.atStartOfDay();
+            selectedDateEnd = uploadAt.atTime(LocalTime.MAX);
+        }
+
+        int sliceSize = sliceSize(size);
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<UUID> vacancyIds = vacancyRepository.scrollFilteredVacancyIds(
+                textSearch != null && !textSearch.isBlank() ? textSearch : null,
+                enumName(contractType), enumName(workMode), enumName(positionLevel), enumName(workload),
+                salaryFrom, salaryTo, salaryModeName(salaryMode), selectedDateStart, selectedDateEnd,
+                position.createdAt(), position.id(), PageRequest.ofSize(sliceSize + 1));
+
+        return toCursorPage(vacancyIds, sliceSize);
     }
 
     /**
      * Retrieves a paginated list of vacancies for a specific company.
      *
      * @param companyId the unique identifier of the company whose vacancies are to be retrieved
+     * @param totals how the total number of vacancies is obtained
      * @param pageable the pagination information, including page number and page size
      * @return a PageShortDto containing a list of VacancyShortDto objects, total items, total pages,
      *         current page number, and page size
      */
     @Override
-    public PageShortDto<VacancyShortDto> getCompanyVacancies(UUID companyId, Pageable pageable) {
+    public PageShortDto<VacancyShortDto> getCompanyVacancies(UUID companyId, TotalsMode totals, Pageable pageable) {
         log.info("Getting vacancies by company with id: {}", companyId);
 
-        Page<Vacancy> companyVacancies = vacancyRepository.getCompanyVacancies(companyId, pageable);
+        Slice<VacancyCard> companyVacancies = pageTotalsResolver.fetch(totals, List.of("company-vacancies", companyId), pageable,
+                () -> vacancyRepository.getCompanyVacancies(companyId, pageable),
+                () -> vacancyRepository.sliceCompanyVacancies(companyId, pageable));
 
         if (companyVacancies.isEmpty()) {
             log.info("No vacancies found by company with id: {}", companyId);
             return new PageShortDto<>(Collections.emptyList(), 0, 0, 0, 0);
         }
 
-        Map<UUID, CompanyPreviewFeignDto> previewInfo = userFeignClient.previewInfo(Set.of(companyId));
+        Map<UUID, CompanyPreviewFeignDto> previewInfo = companyPreviewCache.previewInfo(Set.of(companyId));
+
+        return PageShortDto.of(vacancyMapper.toShortDto(companyVacancies.getContent(), previewInfo), companyVacancies, totals);
+    }
+
+    /**
+     * Retrieves the next slice of a company's vacancies, newest first, using keyset pagination.
+     *
+     * @param companyId the unique identifier of the company whose vacancies are to be retrieved
+     * @param cursor    the opaque cursor returned with the previous slice, or null for the first slice
+     * @param size      the maximum number of vacancies in the slice, kept between 1 and {@code search.scroll.max_size}
+     * @return a slice of vacancies and the cursor of the next slice, which is null when there are no more vacancies
+     *
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    @Override
+    public CursorPageShortDto<VacancyShortDto> scrollCompanyVacancies(UUID companyId, String cursor, int size) {
+        log.info("Scrolling vacancies by company with id: {}, cursor: {}", companyId, cursor);
+
+        int sliceSize = sliceSize(size);
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<UUID> vacancyIds = vacancyRepository.scrollCompanyVacancyIds(
+                companyId, position.createdAt(), position.id(), PageRequest.ofSize(sliceSize + 1));
 
-        return new PageShortDto<>(
-                vacancyMapper.toShortDto(companyVacancies.getContent(), previewInfo),
-                companyVacancies.getTotalElements(),
-                companyVacancies.getTotalPages(),
-                companyVacancies.getNumber(),
-                companyVacancies.getSize());
+        return toCursorPage(vacancyIds, sliceSize);
     }
 
     /**
@@ -224,9 +460,84 @@ public class VacancyServiceImpl implements VacancyService {
         return result;
     }
 
+    /**
+     * Loads the vacancies behind a page of identifiers, keeping the order in which
+     * the identifiers were ranked by the search query.
+     *
+     * @param vacancyIds a page or slice of vacancy identifiers ordered by relevance
+     * @return the list cards of the vacancies, in the same order and with the same paging metadata
+     */
+    private Slice<VacancyCard> hydrateVacancies(Slice<UUID> vacancyIds) {
+        List<VacancyCard> vacancies = hydrateVacancies(vacancyIds.getContent());
+
+        if (vacancyIds instanceof Page<UUID> page) {
+            return new PageImpl<>(vacancies, page.getPageable(), page.getTotalElements());
+        }
+        return new SliceImpl<>(vacancies, vacancyIds.getPageable(), vacancyIds.hasNext());
+    }
+
+    private List<VacancyCard> hydrateVacancies(List<UUID> vacancyIds) {
+        if (vacancyIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<UUID, VacancyCard> vacanciesById = vacancyRepository.getVacancyCardsByIds(vacancyIds)
+                .stream()
+                .collect(Collectors.toMap(VacancyCard::id, vacancy -> vacancy));
+
+        return vacancyIds.stream()
+                .map(vacanciesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private int sliceSize(int size) {
+        return Math.clamp(size, 1, scrollMaxSize);
+    }
+
+    /**
+     * Builds a cursor slice from identifiers fetched with one extra row; the extra row
+     * only tells whether another slice exists and is not returned.
+     */
+    private CursorPageShortDto<VacancyShortDto> toCursorPage(List<UUID> vacancyIds, int size) {
+        if (vacancyIds.isEmpty()) {
+            return new CursorPageShortDto<>(Collections.emptyList(), null, size);
+        }
+
+        boolean hasNext = vacancyIds.size() > size;
+        List<VacancyCard> vacancies = hydrateVacancies(hasNext ? vacancyIds.subList(0, size) : vacancyIds);
+
+        Map<UUID, CompanyPreviewFeignDto> companyPreview = companyPreviewCache.previewInfo(vacancies
+                .stream()
+                .map(VacancyCard::companyId)
+                .collect(Collectors.toSet()));
+
+        String nextCursor = null;
+        if (hasNext) {
+            VacancyCard last = vacancies.get(vacancies.size() - 1);
+            nextCursor = new KeysetCursor(last.createdAt(), last.id()).encode();
+        }
+
+        return new CursorPageShortDto<>(vacancyMapper.toShortDto(vacancies, companyPreview), nextCursor, size);
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String name) {
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+
+    private static String salaryModeName(SalaryRangeMode salaryMode) {
+        return salaryMode == SalaryRangeMode.OVERLAPS ? SalaryRangeMode.OVERLAPS.name() : SalaryRangeMode.WITHIN.name();
+    }
+
+    private static String enumName(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
     /**
      * Validates if the recruiter belongs to the specified company and optionally checks if the recruiter is associated
      * with the specified vacancy. Returns the recruiter's identifier if validation is successful.
+     * Memberships come from the {@link RecruiterMembershipCache}, and the vacancy is not loaded again when
+     * its ownership was already verified earlier in the same request.
      *
      * @param companyId the unique identifier of the company to verify the recruiter's association
      * @param checkVacancy a boolean flag indicating whether to additionally verify the recruiter's association with a specific vacancy
@@ -239,7 +550,7 @@ public class VacancyServiceImpl implements VacancyService {
      */
     private String checkRecruiterCompanyAndVacancyReturnRecruiterId(UUID companyId, boolean checkVacancy, UUID vacancyId) {
         String recruiterKeyId = securityContextService.getSecurityContext(Credentials.SUB);
-        boolean isConnected = userFeignClient.isRecruiterBelongToCompany(
+        boolean isConnected = recruiterMembershipCache.isRecruiterBelongToCompany(
                 recruiterKeyId,
                 companyId);
 
@@ -248,6 +559,10 @@ public class VacancyServiceImpl implements VacancyService {
         }
 
         if (checkVacancy) {
+            if (vacancyOwnershipContext.isOwned(vacancyId, recruiterKeyId)) {
+                return recruiterKeyId;
+            }
+
             Vacancy vacancy = vacancyRepository.findById(vacancyId).orElseThrow(
                     () -> new EntityNotFoundException("Vacancy with id: " + vacancyId + " not found"));
 
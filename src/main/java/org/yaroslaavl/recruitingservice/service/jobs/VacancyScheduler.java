@@ -9,6 +9,8 @@ import org.yaroslaavl.recruitingservice.broker.RecruitingAppNotificationEventPub
 import org.yaroslaavl.recruitingservice.database.entity.Vacancy;
 import org.yaroslaavl.recruitingservice.database.entity.enums.VacancyStatus;
 import org.yaroslaavl.recruitingservice.database.repository.VacancyRepository;
+import org.yaroslaavl.recruitingservice.service.search.VacancySearchIndex;
+import org.yaroslaavl.recruitingservice.service.search.VacancySearchResultCache;
 import org.yaroslaavl.recruitingservice.util.NotificationStore;
 
 import java.time.Duration;
@@ -30,6 +32,8 @@ public class VacancyScheduler {
 
     private final VacancyRepository vacancyRepository;
     private final RecruitingAppNotificationEventPublisher publisher;
+    private final VacancySearchIndex vacancySearchIndex;
+    private final VacancySearchResultCache vacancySearchResultCache;
 
     /**
      * Checks and updates the activation status of vacancies that are not currently active.
@@ -81,6 +85,8 @@ public class VacancyScheduler {
 
         if (!changedVacancies.isEmpty()) {
             vacancyRepository.saveAll(changedVacancies);
+            vacancySearchIndex.refresh(changedVacancies.stream().map(Vacancy::getId).toList());
+            vacancySearchResultCache.invalidateAll();
         }
     }
 
@@ -148,6 +154,8 @@ public class VacancyScheduler {
 
         if (!changedVacancies.isEmpty()) {
             vacancyRepository.saveAll(changedVacancies);
+            vacancySearchIndex.refresh(changedVacancies.stream().map(Vacancy::getId).toList());
+            vacancySearchResultCache.invalidateAll();
         }
     }
 }
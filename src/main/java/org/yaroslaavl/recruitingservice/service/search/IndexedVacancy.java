@@ -0,0 +1,27 @@
+package org.yaroslaavl.recruitingservice.service.search;
+
+import org.yaroslaavl.recruitingservice.database.entity.enums.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The searchable fields and status of a vacancy as kept by {@link VacancySearchIndex}.
+ * Description, requirements and the report count are left out on purpose.
+ */
+public record IndexedVacancy(
+        UUID id,
+        UUID companyId,
+        String title,
+        String location,
+        String categoryName,
+        ContractType contractType,
+        WorkMode workMode,
+        PositionLevel positionLevel,
+        Workload workload,
+        Integer salaryFrom,
+        Integer salaryTo,
+        VacancyStatus status,
+        LocalDateTime createdAt
+) {
+}
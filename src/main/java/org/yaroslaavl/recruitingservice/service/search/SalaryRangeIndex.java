@@ -0,0 +1,85 @@
+package org.yaroslaavl.recruitingservice.service.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Sorted primitive array of (salary, slot) pairs answering "salary at least" and "salary at most"
+ * with a binary search. Each pair is packed into one long, salary in the high half and slot in the
+ * low half, so the array sorts by salary first. Not thread-safe on its own.
+ */
+final class SalaryRangeIndex {
+
+    private long[] entries;
+    private int size;
+
+    SalaryRangeIndex(int capacity) {
+        this.entries = new long[Math.max(capacity, 16)];
+    }
+
+    /**
+     * Appends a pair without keeping the order, for bulk loading followed by {@link #sort()}.
+     */
+    void append(int salary, int slot) {
+        ensureCapacity();
+        entries[size++] = entry(salary, slot);
+    }
+
+    void sort() {
+        Arrays.sort(entries, 0, size);
+    }
+
+    void add(int salary, int slot) {
+        long entry = entry(salary, slot);
+        int position = -(Arrays.binarySearch(entries, 0, size, entry) + 1);
+
+        ensureCapacity();
+        System.arraycopy(entries, position, entries, position + 1, size - position);
+        entries[position] = entry;
+        size++;
+    }
+
+    void remove(int salary, int slot) {
+        int position = Arrays.binarySearch(entries, 0, size, entry(salary, slot));
+
+        if (position >= 0) {
+            System.arraycopy(entries, position + 1, entries, position, size - position - 1);
+            size--;
+        }
+    }
+
+    BitSet atLeast(int salary, int slots) {
+        return collect(lowerBound(salary), size, slots);
+    }
+
+    BitSet atMost(int salary, int slots) {
+        return salary == Integer.MAX_VALUE ? collect(0, size, slots) : collect(0, lowerBound(salary + 1), slots);
+    }
+
+    private BitSet collect(int from, int to, int slots) {
+        BitSet result = new BitSet(slots);
+
+        for (int i = from; i < to; i++) {
+            result.set((int) entries[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Position of the first pair with a salary not lower than the given one.
+     */
+    private int lowerBound(int salary) {
+        int position = Arrays.binarySearch(entries, 0, size, entry(salary, 0));
+        return position >= 0 ? position : -(position + 1);
+    }
+
+    private void ensureCapacity() {
+        if (size == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+        }
+    }
+
+    private static long entry(int salary, int slot) {
+        return ((long) salary << 32) | (slot & 0xFFFFFFFFL);
+    }
+}
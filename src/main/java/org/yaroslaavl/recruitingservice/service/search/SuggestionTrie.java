@@ -0,0 +1,204 @@
+package org.yaroslaavl.recruitingservice.service.search;
+
+import org.yaroslaavl.recruitingservice.database.entity.enums.SuggestionType;
+import org.yaroslaavl.recruitingservice.dto.response.SuggestionDto;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Prefix trie over vacancy titles, locations and category names, weighted by the number of ENABLED vacancies
+ * using each of them. A phrase is reachable from the start of every word it contains, so "dev" completes
+ * "Senior Java Developer". Every node keeps the highest weight found below it, which lets a lookup walk the
+ * subtree best first and stop after the requested number of suggestions instead of visiting every completion.
+ * Not thread-safe on its own.
+ */
+final class SuggestionTrie {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final Node root = new Node();
+    private final Map<Term.Key, Term> terms = new HashMap<>();
+
+    void add(SuggestionType type, String text) {
+        List<String> words = words(text);
+        if (words.isEmpty()) {
+            return;
+        }
+
+        Term term = terms.computeIfAbsent(new Term.Key(type, String.join(" ", words)), key -> new Term(type, text.strip()));
+        term.weight++;
+
+        for (String key : keys(words)) {
+            List<Node> path = path(key, true);
+            Node end = path.get(path.size() - 1);
+
+            if (term.weight == 1 && !end.terms.contains(term)) {
+                end.terms.add(term);
+            }
+            path.forEach(node -> node.best = Math.max(node.best, term.weight));
+        }
+    }
+
+    void remove(SuggestionType type, String text) {
+        List<String> words = words(text);
+        Term.Key termKey = new Term.Key(type, String.join(" ", words));
+        Term term = terms.get(termKey);
+
+        if (term == null) {
+            return;
+        }
+
+        if (--term.weight == 0) {
+            terms.remove(termKey);
+        }
+
+        for (String key : keys(words)) {
+            List<Node> path = path(key, false);
+            if (path.size() != key.length() + 1) {
+                continue;
+            }
+
+            if (term.weight == 0) {
+                path.get(path.size() - 1).terms.remove(term);
+            }
+
+            for (int i = path.size() - 1; i >= 0; i--) {
+                Node node = path.get(i);
+                node.recomputeBest();
+
+                if (i > 0 && node.best == 0) {
+                    path.get(i - 1).children.remove(key.charAt(i - 1));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the heaviest phrases reachable from the prefix, heaviest first.
+     *
+     * @param prefix the text typed so far; a trailing separator means the last word is complete
+     * @param limit  the maximum number of suggestions
+     */
+    List<SuggestionDto> suggest(String prefix, int limit) {
+        List<String> words = words(prefix);
+        if (words.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        String key = String.join(" ", words);
+        if (!prefix.isEmpty() && WORD_SEPARATOR.matcher(prefix.substring(prefix.length() - 1)).matches()) {
+            key += " ";
+        }
+
+        List<Node> path = path(key, false);
+        if (path.size() != key.length() + 1) {
+            return List.of();
+        }
+
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(Comparator.comparingLong(Candidate::weight).reversed());
+        Set<Term> seen = new HashSet<>();
+        List<SuggestionDto> suggestions = new ArrayList<>(limit);
+        Node start = path.get(path.size() - 1);
+        queue.add(new Candidate(start.best, start, null));
+
+        while (!queue.isEmpty() && suggestions.size() < limit) {
+            Candidate candidate = queue.poll();
+
+            if (candidate.term() != null) {
+                if (seen.add(candidate.term())) {
+                    suggestions.add(new SuggestionDto(candidate.term().text, candidate.term().type, candidate.term().weight));
+                }
+                continue;
+            }
+
+            for (Term term : candidate.node().terms) {
+                queue.add(new Candidate(term.weight, null, term));
+            }
+            for (Node child : candidate.node().children.values()) {
+                queue.add(new Candidate(child.best, child, null));
+            }
+        }
+        return suggestions;
+    }
+
+    private List<Node> path(String key, boolean create) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+
+        for (int i = 0; i < key.length(); i++) {
+            node = create
+                    ? node.children.computeIfAbsent(key.charAt(i), character -> new Node())
+                    : node.children.get(key.charAt(i));
+
+            if (node == null) {
+                break;
+            }
+            path.add(node);
+        }
+        return path;
+    }
+
+    /**
+     * The phrase itself and every suffix of it starting at a word boundary.
+     */
+    private static Set<String> keys(List<String> words) {
+        Set<String> keys = new LinkedHashSet<>();
+
+        for (int i = 0; i < words.size(); i++) {
+            keys.add(String.join(" ", words.subList(i, words.size())));
+        }
+        return keys;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+
+        if (text != null) {
+            for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+                if (!word.isEmpty()) {
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final List<Term> terms = new ArrayList<>(1);
+        private long best;
+
+        void recomputeBest() {
+            long recomputed = 0;
+
+            for (Term term : terms) {
+                recomputed = Math.max(recomputed, term.weight);
+            }
+            for (Node child : children.values()) {
+                recomputed = Math.max(recomputed, child.best);
+            }
+            best = recomputed;
+        }
+    }
+
+    private static final class Term {
+
+        private final SuggestionType type;
+        private final String text;
+        private long weight;
+
+        private Term(SuggestionType type, String text) {
+            this.type = type;
+            this.text = text;
+        }
+
+        private record Key(SuggestionType type, String normalized) {
+        }
+    }
+
+    private record Candidate(long weight, Node node, Term term) {
+    }
+}
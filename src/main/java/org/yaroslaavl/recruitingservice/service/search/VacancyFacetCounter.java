@@ -0,0 +1,130 @@
+package org.yaroslaavl.recruitingservice.service.search;
+
+import org.yaroslaavl.recruitingservice.database.entity.enums.ContractType;
+import org.yaroslaavl.recruitingservice.database.entity.enums.PositionLevel;
+import org.yaroslaavl.recruitingservice.database.entity.enums.WorkMode;
+import org.yaroslaavl.recruitingservice.database.entity.enums.Workload;
+import org.yaroslaavl.recruitingservice.dto.response.SalaryBucketDto;
+import org.yaroslaavl.recruitingservice.dto.response.VacancyFacetsDto;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds every facet histogram of a vacancy search in a single pass.
+ * <p>
+ * Facets are disjunctive: the counts of a facet ignore the filter on that facet itself, so the UI can
+ * show how many vacancies every other value of an already selected facet would return. A vacancy
+ * failing exactly one facet filter is counted in that facet only; a vacancy failing none is counted
+ * in every facet and in the total. Salary buckets group vacancies by their lower salary bound and
+ * ignore both salary filters.
+ * <p>
+ * Vacancies passed in must already match the text and upload date of the search.
+ */
+public class VacancyFacetCounter {
+
+    private final VacancySearchCriteria criteria;
+    private final int salaryBucketSize;
+    private final long[] salaryBuckets;
+    private final long[] contractTypes = new long[ContractType.values().length];
+    private final long[] workModes = new long[WorkMode.values().length];
+    private final long[] positionLevels = new long[PositionLevel.values().length];
+    private final long[] workloads = new long[Workload.values().length];
+    private long totalElements;
+
+    public VacancyFacetCounter(VacancySearchCriteria criteria, int salaryBucketSize, int salaryBucketCount) {
+        this.criteria = criteria;
+        this.salaryBucketSize = salaryBucketSize;
+        this.salaryBuckets = new long[salaryBucketCount];
+    }
+
+    /**
+     * Counts a group of vacancies sharing the same facet values.
+     *
+     * @param count how many vacancies the group holds, 1 when counting vacancies one by one
+     */
+    public void add(ContractType contractType,
+                    WorkMode workMode,
+                    PositionLevel positionLevel,
+                    Workload workload,
+                    int salaryFrom,
+                    int salaryTo,
+                    long count) {
+        add(contractType, workMode, positionLevel, workload,
+                Math.max(salaryFrom, 0) / salaryBucketSize, criteria.matchesSalary(salaryFrom, salaryTo), count);
+    }
+
+    /**
+     * Counts a group of vacancies already placed into a salary bucket, as grouped by the database.
+     *
+     * @param salaryBucket  index of the bucket holding the lower salary bound, clamped to the last bucket
+     * @param salaryMatches whether the vacancies of the group pass both salary filters of the search
+     * @param count         how many vacancies the group holds
+     */
+    public void add(ContractType contractType,
+                    WorkMode workMode,
+                    PositionLevel positionLevel,
+                    Workload workload,
+                    int salaryBucket,
+                    boolean salaryMatches,
+                    long count) {
+        boolean contractTypeMatches = criteria.contractType() == null || criteria.contractType() == contractType;
+        boolean workModeMatches = criteria.workMode() == null || criteria.workMode() == workMode;
+        boolean positionLevelMatches = criteria.positionLevel() == null || criteria.positionLevel() == positionLevel;
+        boolean workloadMatches = criteria.workload() == null || criteria.workload() == workload;
+
+        int failed = (contractTypeMatches ? 0 : 1) + (workModeMatches ? 0 : 1) + (positionLevelMatches ? 0 : 1)
+                + (workloadMatches ? 0 : 1) + (salaryMatches ? 0 : 1);
+
+        if (failed > 1) {
+            return;
+        }
+
+        if (failed == 0) {
+            totalElements += count;
+        }
+        increment(contractTypes, contractType, count, workModeMatches && positionLevelMatches && workloadMatches && salaryMatches);
+        increment(workModes, workMode, count, contractTypeMatches && positionLevelMatches && workloadMatches && salaryMatches);
+        increment(positionLevels, positionLevel, count, contractTypeMatches && workModeMatches && workloadMatches && salaryMatches);
+        increment(workloads, workload, count, contractTypeMatches && workModeMatches && positionLevelMatches && salaryMatches);
+
+        if (contractTypeMatches && workModeMatches && positionLevelMatches && workloadMatches) {
+            salaryBuckets[Math.min(Math.max(salaryBucket, 0), salaryBuckets.length - 1)] += count;
+        }
+    }
+
+    public VacancyFacetsDto toDto() {
+        List<SalaryBucketDto> salaries = new ArrayList<>(salaryBuckets.length);
+
+        for (int i = 0; i < salaryBuckets.length; i++) {
+            Integer to = i == salaryBuckets.length - 1 ? null : (i + 1) * salaryBucketSize;
+            salaries.add(new SalaryBucketDto(i * salaryBucketSize, to, salaryBuckets[i]));
+        }
+
+        return new VacancyFacetsDto(totalElements,
+                toMap(ContractType.class, contractTypes),
+                toMap(WorkMode.class, workModes),
+                toMap(PositionLevel.class, positionLevels),
+                toMap(Workload.class, workloads),
+                salaries);
+    }
+
+    private static void increment(long[] facet, Enum<?> value, long count, boolean otherFacetsMatch) {
+        if (value != null && otherFacetsMatch) {
+            facet[value.ordinal()] += count;
+        }
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> toMap(Class<E> type, long[] counts) {
+        Map<E, Long> facet = new EnumMap<>(type);
+
+        for (E value : type.getEnumConstants()) {
+            if (counts[value.ordinal()] > 0) {
+                facet.put(value, counts[value.ordinal()]);
+            }
+        }
+        return facet;
+    }
+}
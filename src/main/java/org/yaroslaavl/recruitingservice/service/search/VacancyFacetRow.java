@@ -0,0 +1,23 @@
+package org.yaroslaavl.recruitingservice.service.search;
+
+/**
+ * One group of matching vacancies sharing the same facet values, as returned by
+ * {@code VacancyRepository#getVacancyFacetRows}. Enum columns come back as their names; the salary columns
+ * hold the salary bucket of the group and whether it passes the salary filters of the search.
+ */
+public interface VacancyFacetRow {
+
+    String getContractType();
+
+    String getWorkMode();
+
+    String getPositionLevel();
+
+    String getWorkload();
+
+    Integer getSalaryBucket();
+
+    Boolean getSalaryMatches();
+
+    Long getVacancies();
+}
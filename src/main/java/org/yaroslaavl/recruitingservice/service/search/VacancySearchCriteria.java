@@ -0,0 +1,47 @@
+package org.yaroslaavl.recruitingservice.service.search;
+
+import org.yaroslaavl.recruitingservice.database.entity.enums.ContractType;
+import org.yaroslaavl.recruitingservice.database.entity.enums.PositionLevel;
+import org.yaroslaavl.recruitingservice.database.entity.enums.SalaryRangeMode;
+import org.yaroslaavl.recruitingservice.database.entity.enums.WorkMode;
+import org.yaroslaavl.recruitingservice.database.entity.enums.Workload;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters of the public vacancy search, with the same meaning as in
+ * {@code VacancyRepository#getFilteredVacancies}: text is a case-insensitive substring of title,
+ * location or category name, and null filters are ignored. With {@link SalaryRangeMode#WITHIN} (the default)
+ * the vacancy salary range must lie inside salaryFrom..salaryTo, with {@link SalaryRangeMode#OVERLAPS}
+ * it only has to overlap it.
+ */
+public record VacancySearchCriteria(
+        String textSearch,
+        ContractType contractType,
+        WorkMode workMode,
+        PositionLevel positionLevel,
+        Workload workload,
+        Integer salaryFrom,
+        Integer salaryTo,
+        SalaryRangeMode salaryMode,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo
+) {
+
+    boolean overlapsSalary() {
+        return salaryMode == SalaryRangeMode.OVERLAPS;
+    }
+
+    boolean matchesSalary(int vacancySalaryFrom, int vacancySalaryTo) {
+        if (overlapsSalary()) {
+            return (salaryFrom == null || vacancySalaryTo >= salaryFrom)
+                    && (salaryTo == null || vacancySalaryFrom <= salaryTo);
+        }
+        return (salaryFrom == null || vacancySalaryFrom >= salaryFrom)
+                && (salaryTo == null || vacancySalaryTo <= salaryTo);
+    }
+
+    boolean matchesCreatedAt(IndexedVacancy vacancy) {
+        return !vacancy.createdAt().isBefore(createdFrom) && !vacancy.createdAt().isAfter(createdTo);
+    }
+}
@@ -0,0 +1,573 @@
+package org.yaroslaavl.recruitingservice.service.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.yaroslaavl.recruitingservice.database.entity.enums.*;
+import org.yaroslaavl.recruitingservice.database.repository.VacancyRepository;
+import org.yaroslaavl.recruitingservice.dto.response.SuggestionDto;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-process search index over the ENABLED vacancies.
+ * <p>
+ * Every indexed vacancy lives in a dense slot: slots are assigned in search order on rebuild and freed
+ * slots are reused, so the bitsets over them stay compact without run-length compression. There is one
+ * bitset per token of title, location and category name and one per value of {@link ContractType},
+ * {@link WorkMode}, {@link PositionLevel} and {@link Workload}; any filter combination resolves to a
+ * candidate bitset with a few word-wise ANDs. Salary bounds are resolved by
+ * binary search over two {@link SalaryRangeIndex} arrays, one per end of the vacancy salary range, which
+ * covers both the WITHIN and OVERLAPS semantics of the salary filter. A separate array keeps the slots
+ * in the order of the SQL search (newest first, then category name). Text matching keeps the LIKE semantics of
+ * {@code VacancyRepository#getFilteredVacancies}: the postings only narrow the candidates down to
+ * vacancies containing the longest query token, and every candidate is then checked for the whole
+ * query as a substring. The indexed tokens containing the query token are found through a map from
+ * every substring of up to three characters to the tokens containing it, so a query
+ * costs the size of its rarest gram instead of the whole vocabulary.
+ * <p>
+ * Titles, locations and category names are also kept in a {@link SuggestionTrie} weighted by how many
+ * vacancies use them, which answers the search box completions.
+ * <p>
+ * The index is loaded on startup and updated after commit whenever this instance edits, deletes
+ * or changes the status of a vacancy; vacancies leaving ENABLED are dropped from it. Changes made by other
+ * instances are picked up by the periodic rebuild.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VacancySearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final int GRAM_LENGTH = 3;
+
+    private static final Comparator<Document> SEARCH_ORDER = Comparator
+            .comparing((Document document) -> document.vacancy().createdAt(), Comparator.reverseOrder())
+            .thenComparing(document -> document.vacancy().categoryName())
+            .thenComparing(document -> document.vacancy().id());
+
+    @Value("${search.index.enabled:true}")
+    private boolean enabled;
+
+    private final VacancyRepository vacancyRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Snapshot snapshot;
+
+    /**
+     * Ids refreshed or removed while a rebuild reads the database, null when no rebuild is running.
+     * Guarded by the index lock.
+     */
+    private Set<UUID> touchedDuringRebuild;
+
+    /**
+     * Answers the vacancy search from memory.
+     *
+     * @param criteria the search filters
+     * @param pageable the requested page; custom sorting is not supported by the index
+     * @return the ids of the requested page in search order with the exact total,
+     *         or empty when the index is disabled, not loaded yet or the page is sorted
+     */
+    public Optional<Page<UUID>> search(VacancySearchCriteria criteria, Pageable pageable) {
+        if (!enabled || pageable.getSort().isSorted()) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (snapshot == null) {
+                return Optional.empty();
+            }
+
+            String text = criteria.textSearch() == null ? "" : criteria.textSearch().toLowerCase(Locale.ROOT);
+            BitSet candidates = snapshot.candidates(text, criteria.contractType(),
+                    criteria.workMode(), criteria.positionLevel(), criteria.workload());
+            snapshot.andSalary(candidates, criteria);
+            long offset = pageable.getOffset();
+            List<UUID> pageIds = new ArrayList<>(pageable.getPageSize());
+            long total = 0;
+
+            for (int i = 0; i < snapshot.size && !candidates.isEmpty(); i++) {
+                int slot = snapshot.order[i];
+
+                if (!candidates.get(slot)) {
+                    continue;
+                }
+
+                Document document = snapshot.slots[slot];
+                if (!criteria.matchesCreatedAt(document.vacancy()) || !document.matchesText(text)) {
+                    continue;
+                }
+
+                if (total >= offset && pageIds.size() < pageable.getPageSize()) {
+                    pageIds.add(document.vacancy().id());
+                }
+                total++;
+            }
+
+            return Optional.of(new PageImpl<>(pageIds, pageable, total));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Feeds every indexed vacancy matching the text and upload date of the criteria into the counter,
+     * in one pass over the candidates.
+     *
+     * @param criteria the search filters
+     * @param counter  the facet counter applying the remaining filters
+     * @return false when the index is disabled or not loaded yet, the counter is then left untouched
+     */
+    public boolean countFacets(VacancySearchCriteria criteria, VacancyFacetCounter counter) {
+        if (!enabled) {
+            return false;
+        }
+
+        lock.readLock().lock();
+        try {
+            if (snapshot == null) {
+                return false;
+            }
+
+            String text = criteria.textSearch() == null ? "" : criteria.textSearch().toLowerCase(Locale.ROOT);
+            BitSet candidates = snapshot.candidates(text);
+
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                Document document = snapshot.slots[slot];
+                IndexedVacancy vacancy = document.vacancy();
+                if (criteria.matchesCreatedAt(vacancy) && document.matchesText(text)) {
+                    counter.add(vacancy.contractType(), vacancy.workMode(), vacancy.positionLevel(), vacancy.workload(),
+                            vacancy.salaryFrom(), vacancy.salaryTo(), 1);
+                }
+            }
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Completes the text typed into the search box with the most used titles, locations and category names
+     * of the ENABLED vacancies.
+     *
+     * @param query the text typed so far
+     * @param limit the maximum number of suggestions
+     * @return the suggestions with the most vacancies first,
+     *         or empty when the index is disabled or not loaded yet
+     */
+    public Optional<List<SuggestionDto>> suggest(String query, int limit) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            return snapshot == null ? Optional.empty() : Optional.of(snapshot.suggestions.suggest(query, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reloads the given vacancies into the index once the current transaction commits,
+     * or immediately when there is none. Vacancies that no longer exist or are no longer ENABLED are dropped.
+     *
+     * @param vacancyIds the identifiers of the vacancies that were changed
+     */
+    public void refresh(Collection<UUID> vacancyIds) {
+        if (vacancyIds.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> ids = Set.copyOf(vacancyIds);
+        afterCommit(() -> apply(ids, vacancyRepository.findIndexedVacanciesByIds(ids)));
+    }
+
+    /**
+     * Drops a vacancy from the index once the current transaction commits.
+     *
+     * @param vacancyId the identifier of the deleted vacancy
+     */
+    public void remove(UUID vacancyId) {
+        afterCommit(() -> apply(Set.of(vacancyId), List.of()));
+    }
+
+    /**
+     * Loads every ENABLED vacancy into a fresh index and swaps it in.
+     * Runs on startup and then periodically to pick up changes made by other instances. Vacancies refreshed or
+     * removed while the database is read are reloaded onto the new index right after the swap, so those
+     * changes are not lost.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${search.index.rebuild_interval:PT10M}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        Set<UUID> touched;
+        lock.writeLock().lock();
+        try {
+            touchedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Snapshot rebuilt = Snapshot.of(vacancyRepository.findAllIndexedVacancies());
+
+            lock.writeLock().lock();
+            try {
+                snapshot = rebuilt;
+                touched = touchedDuringRebuild;
+                touchedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Vacancy search index rebuilt with {} vacancies", rebuilt.size);
+        } catch (Exception e) {
+            lock.writeLock().lock();
+            try {
+                touchedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("Failed to rebuild vacancy search index, keeping the previous one", e);
+            return;
+        }
+
+        if (!touched.isEmpty()) {
+            afterCommit(() -> apply(touched, vacancyRepository.findIndexedVacanciesByIds(touched)));
+        }
+    }
+
+    private void apply(Set<UUID> ids, List<IndexedVacancy> vacancies) {
+        lock.writeLock().lock();
+        try {
+            if (touchedDuringRebuild != null) {
+                touchedDuringRebuild.addAll(ids);
+            }
+            if (snapshot == null) {
+                return;
+            }
+
+            ids.forEach(snapshot::remove);
+            vacancies.stream()
+                    .filter(vacancy -> vacancy.status() == VacancyStatus.ENABLED)
+                    .forEach(snapshot::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Vacancy search index updated for {}", ids);
+    }
+
+    private void afterCommit(Runnable action) {
+        Runnable guarded = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.error("Failed to update vacancy search index, it will catch up on the next rebuild", e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guarded.run();
+                }
+            });
+        } else {
+            guarded.run();
+        }
+    }
+
+    private static Set<String> tokens(String value) {
+        Set<String> tokens = new HashSet<>();
+
+        if (value != null) {
+            for (String token : TOKEN_SEPARATOR.split(value)) {
+                if (!token.isEmpty()) {
+                    tokens.add(token);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private record Document(IndexedVacancy vacancy, String title, String location, String categoryName) {
+
+        static Document of(IndexedVacancy vacancy) {
+            return new Document(vacancy,
+                    vacancy.title().toLowerCase(Locale.ROOT),
+                    vacancy.location() == null ? null : vacancy.location().toLowerCase(Locale.ROOT),
+                    vacancy.categoryName().toLowerCase(Locale.ROOT));
+        }
+
+        Set<String> tokens() {
+            Set<String> tokens = VacancySearchIndex.tokens(title);
+            tokens.addAll(VacancySearchIndex.tokens(location));
+            tokens.addAll(VacancySearchIndex.tokens(categoryName));
+            return tokens;
+        }
+
+        List<Enum<?>> facetValues() {
+            return Stream.of(vacancy.contractType(), vacancy.workMode(), vacancy.positionLevel(), vacancy.workload())
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+
+        void addSuggestions(SuggestionTrie suggestions) {
+            suggestions.add(SuggestionType.TITLE, vacancy.title());
+            suggestions.add(SuggestionType.LOCATION, vacancy.location());
+            suggestions.add(SuggestionType.CATEGORY, vacancy.categoryName());
+        }
+
+        void removeSuggestions(SuggestionTrie suggestions) {
+            suggestions.remove(SuggestionType.TITLE, vacancy.title());
+            suggestions.remove(SuggestionType.LOCATION, vacancy.location());
+            suggestions.remove(SuggestionType.CATEGORY, vacancy.categoryName());
+        }
+
+        boolean matchesText(String text) {
+            return text.isEmpty()
+                    || title.contains(text)
+                    || (location != null && location.contains(text))
+                    || categoryName.contains(text);
+        }
+    }
+
+    /**
+     * Slot storage of the index. Not thread-safe on its own, guarded by the index lock.
+     */
+    private static final class Snapshot {
+
+        private Document[] slots;
+        private int[] order;
+        private int size;
+        private int nextSlot;
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private final Map<UUID, Integer> slotById = new HashMap<>();
+        private final Map<String, BitSet> postings = new HashMap<>();
+        private final Map<String, Set<String>> tokensByGram = new HashMap<>();
+        private final Map<Enum<?>, BitSet> facets = new HashMap<>();
+        private final SalaryRangeIndex salaryFrom;
+        private final SalaryRangeIndex salaryTo;
+        private final SuggestionTrie suggestions = new SuggestionTrie();
+
+        private Snapshot(int capacity) {
+            this.slots = new Document[Math.max(capacity, 16)];
+            this.order = new int[slots.length];
+            this.salaryFrom = new SalaryRangeIndex(capacity);
+            this.salaryTo = new SalaryRangeIndex(capacity);
+        }
+
+        static Snapshot of(List<IndexedVacancy> vacancies) {
+            Snapshot snapshot = new Snapshot(vacancies.size());
+
+            vacancies.stream()
+                    .map(Document::of)
+                    .sorted(SEARCH_ORDER)
+                    .forEach(document -> {
+                        int slot = snapshot.store(document);
+                        snapshot.order[snapshot.size++] = slot;
+                        snapshot.salaryFrom.append(document.vacancy().salaryFrom(), slot);
+                        snapshot.salaryTo.append(document.vacancy().salaryTo(), slot);
+                    });
+            snapshot.salaryFrom.sort();
+            snapshot.salaryTo.sort();
+            return snapshot;
+        }
+
+        void put(IndexedVacancy vacancy) {
+            remove(vacancy.id());
+
+            Document document = Document.of(vacancy);
+            int slot = store(document);
+            int position = -(position(document) + 1);
+
+            if (size == order.length) {
+                order = Arrays.copyOf(order, order.length * 2);
+            }
+            System.arraycopy(order, position, order, position + 1, size - position);
+            order[position] = slot;
+            size++;
+            salaryFrom.add(vacancy.salaryFrom(), slot);
+            salaryTo.add(vacancy.salaryTo(), slot);
+        }
+
+        void remove(UUID vacancyId) {
+            Integer slot = slotById.remove(vacancyId);
+
+            if (slot == null) {
+                return;
+            }
+
+            Document document = slots[slot];
+            int position = position(document);
+            System.arraycopy(order, position + 1, order, position, size - position - 1);
+            size--;
+            salaryFrom.remove(document.vacancy().salaryFrom(), slot);
+            salaryTo.remove(document.vacancy().salaryTo(), slot);
+
+            document.tokens().forEach(token -> clearPosting(token, slot));
+            document.facetValues().forEach(value -> clear(facets, value, slot));
+            document.removeSuggestions(suggestions);
+            slots[slot] = null;
+            freeSlots.push(slot);
+        }
+
+        /**
+         * Returns the slots having every given facet value and possibly containing the text.
+         * Null facet values are skipped.
+         */
+        BitSet candidates(String text, Enum<?>... facetValues) {
+            BitSet candidates = new BitSet(nextSlot);
+            candidates.set(0, nextSlot);
+
+            for (Enum<?> value : facetValues) {
+                if (value != null) {
+                    candidates.and(facets.getOrDefault(value, new BitSet()));
+                }
+            }
+
+            String token = tokens(text).stream()
+                    .max(Comparator.comparingInt(String::length))
+                    .orElse(null);
+
+            if (token != null && !candidates.isEmpty()) {
+                BitSet containing = new BitSet(nextSlot);
+                tokensContaining(token).forEach(key -> containing.or(postings.get(key)));
+                candidates.and(containing);
+            }
+            return candidates;
+        }
+
+        /**
+         * Narrows the candidates down to the slots matching the salary filter of the criteria.
+         */
+        void andSalary(BitSet candidates, VacancySearchCriteria criteria) {
+            if (criteria.salaryFrom() != null && !candidates.isEmpty()) {
+                SalaryRangeIndex bound = criteria.overlapsSalary() ? salaryTo : salaryFrom;
+                candidates.and(bound.atLeast(criteria.salaryFrom(), nextSlot));
+            }
+            if (criteria.salaryTo() != null && !candidates.isEmpty()) {
+                SalaryRangeIndex bound = criteria.overlapsSalary() ? salaryFrom : salaryTo;
+                candidates.and(bound.atMost(criteria.salaryTo(), nextSlot));
+            }
+        }
+
+        private int store(Document document) {
+            int slot = freeSlots.isEmpty() ? nextSlot++ : freeSlots.pop();
+
+            if (slot == slots.length) {
+                slots = Arrays.copyOf(slots, slots.length * 2);
+            }
+            slots[slot] = document;
+            slotById.put(document.vacancy().id(), slot);
+            document.tokens().forEach(token -> addPosting(token, slot));
+            document.facetValues().forEach(value -> facets.computeIfAbsent(value, key -> new BitSet()).set(slot));
+            document.addSuggestions(suggestions);
+            return slot;
+        }
+
+        private void addPosting(String token, int slot) {
+            postings.computeIfAbsent(token, key -> {
+                grams(key).forEach(gram -> tokensByGram.computeIfAbsent(gram, g -> new HashSet<>()).add(key));
+                return new BitSet();
+            }).set(slot);
+        }
+
+        private void clearPosting(String token, int slot) {
+            BitSet posting = postings.get(token);
+            posting.clear(slot);
+            if (posting.isEmpty()) {
+                postings.remove(token);
+                for (String gram : grams(token)) {
+                    Set<String> tokens = tokensByGram.get(gram);
+                    tokens.remove(token);
+                    if (tokens.isEmpty()) {
+                        tokensByGram.remove(gram);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns the indexed tokens containing the given token. Tokens of up to three characters
+         * are looked up directly, longer ones are checked against the tokens of their rarest gram.
+         */
+        private Collection<String> tokensContaining(String token) {
+            if (token.length() <= GRAM_LENGTH) {
+                return tokensByGram.getOrDefault(token, Set.of());
+            }
+
+            Set<String> rarest = null;
+            for (int i = 0; i + GRAM_LENGTH <= token.length(); i++) {
+                Set<String> tokens = tokensByGram.get(token.substring(i, i + GRAM_LENGTH));
+                if (tokens == null) {
+                    return List.of();
+                }
+                if (rarest == null || tokens.size() < rarest.size()) {
+                    rarest = tokens;
+                }
+            }
+            return rarest.stream().filter(key -> key.contains(token)).toList();
+        }
+
+        private static Set<String> grams(String token) {
+            Set<String> grams = new HashSet<>();
+
+            for (int length = 1; length <= GRAM_LENGTH; length++) {
+                for (int i = 0; i + length <= token.length(); i++) {
+                    grams.add(token.substring(i, i + length));
+                }
+            }
+            return grams;
+        }
+
+        private static <K> void clear(Map<K, BitSet> bitsets, K key, int slot) {
+            BitSet bitset = bitsets.get(key);
+            bitset.clear(slot);
+            if (bitset.isEmpty()) {
+                bitsets.remove(key);
+            }
+        }
+
+        /**
+         * Binary search of a document in the search order, same contract as {@link Arrays#binarySearch}.
+         */
+        private int position(Document document) {
+            int low = 0;
+            int high = size - 1;
+
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = SEARCH_ORDER.compare(slots[order[middle]], document);
+
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.yaroslaavl.recruitingservice.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.yaroslaavl.recruitingservice.dto.response.list.PageShortDto;
+import org.yaroslaavl.recruitingservice.dto.response.list.VacancyShortDto;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches fully mapped pages of the public vacancy search, company previews included.
+ * <p>
+ * Only the first pages are cached, since deep pages are rarely requested twice and would only push the hot
+ * entries out. Every entry depends on the set of ENABLED vacancies, so the whole cache is dropped after commit
+ * whenever this instance moves a vacancy into or out of ENABLED or edits or deletes an ENABLED one.
+ * Changes made by other instances become visible once the entries expire.
+ * <p>
+ * Hits, misses and evictions are published as the {@code cache.*} meters tagged {@code cache=vacancy-search-results}.
+ */
+@Slf4j
+@Component
+public class VacancySearchResultCache {
+
+    private final Cache<List<?>, PageShortDto<VacancyShortDto>> cachedPages;
+    private final int cachedPageCount;
+    private final AtomicLong generation = new AtomicLong();
+
+    public VacancySearchResultCache(@Value("${search.result_cache.ttl:PT1M}") Duration ttl,
+                                    @Value("${search.result_cache.max_size:1000}") long maxSize,
+                                    @Value("${search.result_cache.page_count:2}") int cachedPageCount,
+                                    MeterRegistry meterRegistry) {
+        this.cachedPageCount = cachedPageCount;
+        this.cachedPages = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cachedPages, "vacancy-search-results");
+    }
+
+    /**
+     * Returns the cached page of a search, loading and caching it when absent.
+     * A page loaded while the cache was being invalidated is returned but not kept.
+     *
+     * @param searchKey  the normalized search filters together with the page number, size and sort
+     * @param pageNumber the requested page number; pages past the cached ones always go to the loader
+     * @param loader     runs the search
+     * @return the page of the search
+     */
+    public PageShortDto<VacancyShortDto> get(List<?> searchKey, int pageNumber, Supplier<PageShortDto<VacancyShortDto>> loader) {
+        if (pageNumber >= cachedPageCount) {
+            return loader.get();
+        }
+
+        PageShortDto<VacancyShortDto> cachedPage = cachedPages.getIfPresent(searchKey);
+        if (cachedPage != null) {
+            return cachedPage;
+        }
+
+        long loadedAt = generation.get();
+        PageShortDto<VacancyShortDto> page = loader.get();
+
+        cachedPages.put(searchKey, page);
+        if (generation.get() != loadedAt) {
+            cachedPages.invalidate(searchKey);
+        }
+        return page;
+    }
+
+    /**
+     * Drops every cached page once the current transaction commits, or immediately when there is none.
+     */
+    public void invalidateAll() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        } else {
+            clear();
+        }
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        cachedPages.invalidateAll();
+        log.debug("Vacancy search result cache cleared");
+    }
+}
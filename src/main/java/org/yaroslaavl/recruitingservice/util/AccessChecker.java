@@ -24,12 +24,17 @@ public class AccessChecker {
     private final ReportSystemRepository reportSystemRepository;
     private final ApplicationRepository applicationRepository;
     private final VacancyRepository vacancyRepository;
+    private final VacancyOwnershipContext vacancyOwnershipContext;
 
     public boolean hasAccessToActOnVacancy(UUID id) {
         String userId = securityContextService.getSecurityContext(Credentials.SUB);
 
-        return userId != null && !userId.isEmpty()
+        boolean hasAccess = userId != null && !userId.isEmpty()
                 && vacancyRepository.findVacancyByIdAndRecruiterId(id, userId);
+        if (hasAccess) {
+            vacancyOwnershipContext.markOwned(id, userId);
+        }
+        return hasAccess;
     }
 
     public boolean hasAccessToReport(UUID id) {
@@ -0,0 +1,52 @@
+package org.yaroslaavl.recruitingservice.util;
+
+import org.yaroslaavl.recruitingservice.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a page ordered by {@code (createdAt DESC, id DESC)}.
+ * Clients receive it as an opaque URL-safe token and send it back to continue scrolling.
+ */
+public record KeysetCursor(
+        LocalDateTime createdAt,
+        UUID id
+) {
+
+    private static final String SEPARATOR = "|";
+    private static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59), new UUID(-1L, -1L));
+
+    /**
+     * Returns a position that sorts after every stored row, so the first page
+     * can be read with the same keyset predicate as every following one.
+     */
+    public static KeysetCursor first() {
+        return FIRST;
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+
+            return new KeysetCursor(
+                    LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                    UUID.fromString(decoded.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException("Cursor is malformed: " + cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,75 @@
+package org.yaroslaavl.recruitingservice.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.yaroslaavl.recruitingservice.database.entity.enums.TotalsMode;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Decides how the total of a paged listing is obtained.
+ * EXACT runs the page query together with its count query, NONE runs only the slice query,
+ * and ESTIMATED reuses a count cached for the same filters and refreshes it once it expires.
+ */
+@Slf4j
+@Component
+public class PageTotalsResolver {
+
+    private final Cache<List<?>, Long> cachedTotals;
+
+    public PageTotalsResolver(@Value("${paging.cached_totals.ttl:PT5M}") Duration ttl,
+                              @Value("${paging.cached_totals.max_size:10000}") long maxSize) {
+        this.cachedTotals = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Reads one page of a listing according to the requested totals mode.
+     *
+     * @param totalsMode the requested totals mode; null is treated as EXACT
+     * @param filterKey  the listing name followed by every filter value, page number excluded
+     * @param pageable   the requested page
+     * @param pageQuery  the query returning the page together with its exact total
+     * @param sliceQuery the same query without the count
+     * @return a {@link Page} when a total is known, otherwise a plain {@link Slice}
+     */
+    public <T> Slice<T> fetch(TotalsMode totalsMode,
+                              List<?> filterKey,
+                              Pageable pageable,
+                              Supplier<Page<T>> pageQuery,
+                              Supplier<Slice<T>> sliceQuery) {
+        if (totalsMode == TotalsMode.NONE) {
+            return sliceQuery.get();
+        }
+
+        if (totalsMode == TotalsMode.ESTIMATED) {
+            Long cachedTotal = cachedTotals.getIfPresent(filterKey);
+
+            if (cachedTotal != null) {
+                Slice<T> slice = sliceQuery.get();
+                long seen = pageable.getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+
+                return new PageImpl<>(slice.getContent(), pageable, Math.max(cachedTotal, seen));
+            }
+
+            Page<T> page = pageQuery.get();
+            cachedTotals.put(filterKey, page.getTotalElements());
+            log.debug("Cached total {} for {}", page.getTotalElements(), filterKey);
+
+            return page;
+        }
+
+        return pageQuery.get();
+    }
+}
@@ -0,0 +1,47 @@
+package org.yaroslaavl.recruitingservice.util;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Remembers, for the current HTTP request, which vacancies were already verified to belong to which recruiter,
+ * so that a check done by {@link AccessChecker} is not repeated by the service handling the same request.
+ * Outside a request nothing is remembered.
+ */
+@Component
+public class VacancyOwnershipContext {
+
+    private static final String VERIFIED_ATTRIBUTE = VacancyOwnershipContext.class.getName() + ".verified";
+
+    public void markOwned(UUID vacancyId, String recruiterId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<VerifiedOwnership> verified = (Set<VerifiedOwnership>) attributes.getAttribute(VERIFIED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (verified == null) {
+            verified = new HashSet<>();
+            attributes.setAttribute(VERIFIED_ATTRIBUTE, verified, RequestAttributes.SCOPE_REQUEST);
+        }
+        verified.add(new VerifiedOwnership(vacancyId, recruiterId));
+    }
+
+    public boolean isOwned(UUID vacancyId, String recruiterId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return false;
+        }
+
+        Object verified = attributes.getAttribute(VERIFIED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return verified instanceof Set<?> ownerships && ownerships.contains(new VerifiedOwnership(vacancyId, recruiterId));
+    }
+
+    private record VerifiedOwnership(UUID vacancyId, String recruiterId) { }
+}
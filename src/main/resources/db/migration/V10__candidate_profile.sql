@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS recruiting_data.candidate_profile (
+                                                       user_id VARCHAR(250) PRIMARY KEY,
+                                                       display_name VARCHAR(255),
+                                                       salary INT,
+                                                       work_mode VARCHAR(50),
+                                                       available_hours_per_week INT,
+                                                       available_from DATE,
+                                                       changed_at TIMESTAMPTZ NOT NULL
+);
@@ -0,0 +1,41 @@
+ALTER TABLE recruiting_data.vacancy
+ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION recruiting_data.vacancy_search_vector(vacancy_title TEXT, vacancy_location TEXT, vacancy_category_id UUID)
+RETURNS tsvector AS $$
+    SELECT setweight(to_tsvector('english', coalesce(vacancy_title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce((SELECT c.name FROM recruiting_data.category c WHERE c.id = vacancy_category_id), '')), 'B')
+        || setweight(to_tsvector('simple', coalesce(vacancy_location, '')), 'C');
+$$ LANGUAGE sql STABLE;
+
+CREATE OR REPLACE FUNCTION recruiting_data.vacancy_search_vector_refresh()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector := recruiting_data.vacancy_search_vector(NEW.title, NEW.location, NEW.category_id);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER vacancy_search_vector_trigger
+    BEFORE INSERT OR UPDATE OF title, location, category_id ON recruiting_data.vacancy
+    FOR EACH ROW EXECUTE FUNCTION recruiting_data.vacancy_search_vector_refresh();
+
+CREATE OR REPLACE FUNCTION recruiting_data.category_search_vector_refresh()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE recruiting_data.vacancy v
+    SET search_vector = recruiting_data.vacancy_search_vector(v.title, v.location, v.category_id)
+    WHERE v.category_id = NEW.id;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER category_search_vector_trigger
+    AFTER UPDATE OF name ON recruiting_data.category
+    FOR EACH ROW EXECUTE FUNCTION recruiting_data.category_search_vector_refresh();
+
+UPDATE recruiting_data.vacancy v
+SET search_vector = recruiting_data.vacancy_search_vector(v.title, v.location, v.category_id);
+
+CREATE INDEX IF NOT EXISTS idx_vacancy_search_vector
+    ON recruiting_data.vacancy USING GIN (search_vector);
@@ -0,0 +1,13 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_vacancy_title_trgm
+    ON recruiting_data.vacancy USING GIN (LOWER(title) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_vacancy_location_trgm
+    ON recruiting_data.vacancy USING GIN (LOWER(location) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_vacancy_category_id
+    ON recruiting_data.vacancy (category_id);
+
+CREATE INDEX IF NOT EXISTS idx_category_name_trgm
+    ON recruiting_data.category USING GIN (LOWER(name) gin_trgm_ops);
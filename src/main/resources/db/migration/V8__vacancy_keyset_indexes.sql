@@ -0,0 +1,7 @@
+CREATE INDEX IF NOT EXISTS idx_vacancy_enabled_created_at_id
+    ON recruiting_data.vacancy (created_at DESC, id DESC)
+    WHERE status = 'ENABLED';
+
+CREATE INDEX IF NOT EXISTS idx_vacancy_enabled_company_created_at_id
+    ON recruiting_data.vacancy (company_id, created_at DESC, id DESC)
+    WHERE status = 'ENABLED';
@@ -0,0 +1,20 @@
+CREATE INDEX IF NOT EXISTS idx_application_vacancy_candidate
+    ON recruiting_data.application (vacancy_id, candidate_id);
+
+CREATE INDEX IF NOT EXISTS idx_application_candidate_applied_at
+    ON recruiting_data.application (candidate_id, applied_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_application_history_application_changed_at
+    ON recruiting_data.application_history (application_id, changed_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_report_system_user_created_at
+    ON recruiting_data.report_system (user_id, created_at);
+
+CREATE INDEX IF NOT EXISTS idx_report_system_vacancy_status
+    ON recruiting_data.report_system (vacancy_id, status);
+
+CREATE INDEX IF NOT EXISTS idx_report_system_status_created_at
+    ON recruiting_data.report_system (status, created_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_vacancy_status_created_at
+    ON recruiting_data.vacancy (status, created_at);
@@ -6,25 +6,47 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.yaroslaavl.recruitingservice.broker.RecruitingAppNotificationEventPublisher;
+import org.yaroslaavl.recruitingservice.database.entity.Application;
+import org.yaroslaavl.recruitingservice.database.entity.CandidateProfile;
 import org.yaroslaavl.recruitingservice.database.entity.Vacancy;
 import org.yaroslaavl.recruitingservice.database.entity.enums.Credentials;
 import org.yaroslaavl.recruitingservice.database.entity.enums.RecruitingSystemStatus;
+import org.yaroslaavl.recruitingservice.database.entity.enums.TotalsMode;
 import org.yaroslaavl.recruitingservice.database.repository.ApplicationHistoryRepository;
 import org.yaroslaavl.recruitingservice.database.repository.ApplicationRepository;
 import org.yaroslaavl.recruitingservice.database.repository.VacancyRepository;
 import org.yaroslaavl.recruitingservice.dto.request.VacancyApplicationRequestDto;
+import org.yaroslaavl.recruitingservice.exception.CandidateAccountStatusException;
 import org.yaroslaavl.recruitingservice.feignClient.cv.CvFeignClient;
 import org.yaroslaavl.recruitingservice.feignClient.dto.CVApplicationDto;
-import org.yaroslaavl.recruitingservice.feignClient.user.UserFeignClient;
+import org.yaroslaavl.recruitingservice.feignClient.user.CandidateProfileProjection;
+import org.yaroslaavl.recruitingservice.feignClient.user.UserApprovalProjection;
+import org.yaroslaavl.recruitingservice.mapper.ApplicationMapper;
 import org.yaroslaavl.recruitingservice.mapper.VacancyMapper;
 import org.yaroslaavl.recruitingservice.service.SecurityContextService;
 import org.yaroslaavl.recruitingservice.service.impl.ApplicationServiceImpl;
 import org.yaroslaavl.recruitingservice.service.impl.SecurityContextServiceImpl;
 import org.yaroslaavl.recruitingservice.service.impl.VacancyServiceImpl;
+import org.yaroslaavl.recruitingservice.util.PageTotalsResolver;
 
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,7 +59,16 @@ public class ApplicationServiceTest {
     private ApplicationRepository applicationRepository;
 
     @Mock
-    private UserFeignClient userFeignClient;
+    private CandidateProfileProjection candidateProfileProjection;
+
+    @Mock
+    private PageTotalsResolver pageTotalsResolver;
+
+    @Mock
+    private ApplicationMapper applicationMapper;
+
+    @Mock
+    private UserApprovalProjection userApprovalProjection;
 
     @Mock
     private CvFeignClient cvFeignClient;
@@ -70,7 +101,7 @@ public class ApplicationServiceTest {
 
         when(securityContextService.getSecurityContext(Credentials.SUB))
                 .thenReturn(candidateKeyId);
-        when(userFeignClient.isApproved(candidateKeyId))
+        when(userApprovalProjection.isApproved(candidateKeyId))
                 .thenReturn(true);
         when(cvFeignClient.getCvForRecruiter(cvId))
                 .thenReturn(new CVApplicationDto(cvId, "test-url", "fileName"));
@@ -91,4 +122,81 @@ public class ApplicationServiceTest {
                                 "system".equals(history.getChangedBy())
                 ));
     }
+
+    @Test
+    void shouldRejectUnapprovedCandidateWithoutWaitingForCv() throws InterruptedException {
+        UUID vacancyId = UUID.randomUUID();
+        UUID cvId = UUID.randomUUID();
+        String candidateKeyId = "81c3aaeb-b0f3-4f38-a3bf-f9ce2c22c4e1";
+
+        Vacancy vacancy = new Vacancy();
+        vacancy.setId(vacancyId);
+
+        when(securityContextService.getSecurityContext(Credentials.SUB))
+                .thenReturn(candidateKeyId);
+        CountDownLatch cvCheckStarted = new CountDownLatch(1);
+        CountDownLatch cvCheckInterrupted = new CountDownLatch(1);
+        when(userApprovalProjection.isApproved(candidateKeyId))
+                .thenAnswer(invocation -> !cvCheckStarted.await(1, TimeUnit.SECONDS));
+        when(cvFeignClient.getCvForRecruiter(cvId))
+                .thenAnswer(invocation -> {
+                    cvCheckStarted.countDown();
+                    try {
+                        Thread.sleep(5_000);
+                    } catch (InterruptedException e) {
+                        cvCheckInterrupted.countDown();
+                        throw e;
+                    }
+                    return new CVApplicationDto(cvId, "test-url", "fileName");
+                });
+        when(vacancyRepository.findById(vacancyId))
+                .thenReturn(Optional.of(vacancy));
+        when(applicationRepository.findByVacancyIdAndCandidateId(vacancyId, candidateKeyId))
+                .thenReturn(Optional.empty());
+
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> assertThrows(CandidateAccountStatusException.class,
+                () -> applicationService.applyVacancy(new VacancyApplicationRequestDto(vacancyId, cvId, "My cover letter"))));
+
+        verify(applicationRepository, never()).save(any());
+        assertTrue(cvCheckInterrupted.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldFilterApplicationsAgainstLocalCandidateProfiles() {
+        UUID vacancyId = UUID.randomUUID();
+        String recruiterKeyId = "5d2b7c1e-0f4a-4c8e-9b1d-3e6f7a8b9c0d";
+        Pageable pageable = PageRequest.of(0, 10);
+
+        Vacancy vacancy = new Vacancy();
+        vacancy.setId(vacancyId);
+        vacancy.setRecruiterId(recruiterKeyId);
+
+        Application application = Application.builder()
+                .id(UUID.randomUUID())
+                .vacancy(vacancy)
+                .candidateId("candidate-1")
+                .status(RecruitingSystemStatus.NEW)
+                .build();
+        CandidateProfile profile = CandidateProfile.builder()
+                .userId("candidate-1")
+                .displayName("Jan Kowalski")
+                .workMode("REMOTE")
+                .changedAt(Instant.now())
+                .build();
+
+        when(securityContextService.getSecurityContext(Credentials.SUB))
+                .thenReturn(recruiterKeyId);
+        when(vacancyRepository.findById(vacancyId))
+                .thenReturn(Optional.of(vacancy));
+        when(pageTotalsResolver.fetch(eq(TotalsMode.EXACT), anyList(), eq(pageable), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(3).get());
+        when(applicationRepository.findApplicationsByVacancyIdAndStatus(vacancyId, null, null, "REMOTE", null, null, pageable))
+                .thenReturn(new PageImpl<>(List.of(application), pageable, 1));
+        when(candidateProfileProjection.findProfiles(Set.of("candidate-1")))
+                .thenReturn(Map.of("candidate-1", profile));
+
+        applicationService.getFilteredApplications(vacancyId, null, null, "REMOTE", null, null, TotalsMode.EXACT, pageable);
+
+        verify(applicationMapper).toShortDto(List.of(application), Map.of("candidate-1", profile));
+    }
 }
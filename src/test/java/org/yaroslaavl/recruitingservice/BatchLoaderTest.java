@@ -0,0 +1,81 @@
+package org.yaroslaavl.recruitingservice;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.yaroslaavl.recruitingservice.feignClient.BatchLoader;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchLoaderTest {
+
+    private static final int CALLERS = 64;
+    private static final int KEYS_PER_CALLER = 10;
+
+    @Test
+    void shouldCoalesceConcurrentOverlappingLookups() throws Exception {
+        AtomicInteger downstreamCalls = new AtomicInteger();
+        AtomicInteger downstreamKeys = new AtomicInteger();
+        BatchLoader<Integer, String> loader = new BatchLoader<>("test", Duration.ofMillis(10), 1000, keys -> {
+            downstreamCalls.incrementAndGet();
+            downstreamKeys.addAndGet(keys.size());
+            sleep(5);
+            return keys.stream().collect(Collectors.toMap(Function.identity(), key -> "value-" + key));
+        }, new SimpleMeterRegistry());
+
+        List<Set<Integer>> requests = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < CALLERS; i++) {
+            requests.add(random.ints(KEYS_PER_CALLER, 0, 100).boxed().collect(Collectors.toSet()));
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService callers = Executors.newFixedThreadPool(CALLERS)) {
+            List<Future<Map<Integer, String>>> results = new ArrayList<>();
+            for (Set<Integer> request : requests) {
+                results.add(callers.submit(() -> {
+                    start.await();
+                    return loader.getAll(request);
+                }));
+            }
+            start.countDown();
+
+            for (int i = 0; i < CALLERS; i++) {
+                Map<Integer, String> result = results.get(i).get(5, TimeUnit.SECONDS);
+                assertEquals(requests.get(i), result.keySet());
+                result.forEach((key, value) -> assertEquals("value-" + key, value));
+            }
+        }
+
+        int requestedKeys = requests.stream().mapToInt(Set::size).sum();
+        System.out.printf("BatchLoader: %d lookups of %d keys coalesced into %d downstream calls of %d keys%n",
+                CALLERS, requestedKeys, downstreamCalls.get(), downstreamKeys.get());
+
+        assertTrue(downstreamCalls.get() <= CALLERS / 8, () -> downstreamCalls.get() + " downstream calls");
+        assertTrue(downstreamKeys.get() < requestedKeys, () -> downstreamKeys.get() + " downstream keys");
+    }
+
+    @Test
+    void shouldPropagateBatchFailureToEveryCaller() {
+        BatchLoader<Integer, String> loader = new BatchLoader<>("test", Duration.ofMillis(1), 1000, keys -> {
+            throw new IllegalStateException("user-service unavailable");
+        }, new SimpleMeterRegistry());
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> loader.getAll(Set.of(1, 2)));
+        assertEquals("user-service unavailable", exception.getMessage());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
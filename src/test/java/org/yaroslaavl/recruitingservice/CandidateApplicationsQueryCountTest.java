@@ -0,0 +1,146 @@
+package org.yaroslaavl.recruitingservice;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.yaroslaavl.recruitingservice.broker.RecruitingAppNotificationEventPublisher;
+import org.yaroslaavl.recruitingservice.database.entity.enums.Credentials;
+import org.yaroslaavl.recruitingservice.database.entity.enums.TotalsMode;
+import org.yaroslaavl.recruitingservice.dto.response.list.CandidateApplicationsShortDto;
+import org.yaroslaavl.recruitingservice.dto.response.list.PageShortDto;
+import org.yaroslaavl.recruitingservice.feignClient.cv.CvFeignClient;
+import org.yaroslaavl.recruitingservice.feignClient.user.CandidateProfileProjection;
+import org.yaroslaavl.recruitingservice.feignClient.user.CompanyPreviewCache;
+import org.yaroslaavl.recruitingservice.feignClient.user.UserApprovalProjection;
+import org.yaroslaavl.recruitingservice.mapper.ApplicationMapperImpl;
+import org.yaroslaavl.recruitingservice.mapper.CommonMapperImpl;
+import org.yaroslaavl.recruitingservice.mapper.helper.ApplicationMapperHelper;
+import org.yaroslaavl.recruitingservice.service.SecurityContextService;
+import org.yaroslaavl.recruitingservice.service.impl.ApplicationServiceImpl;
+import org.yaroslaavl.recruitingservice.service.search.VacancySearchIndex;
+import org.yaroslaavl.recruitingservice.service.search.VacancySearchResultCache;
+import org.yaroslaavl.recruitingservice.util.PageTotalsResolver;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the candidate's application listing against an embedded Postgres and counts the statements it sends,
+ * so per-row lookups in the mapper show up as a failure instead of as latency.
+ */
+@DataJpaTest(properties = {
+        "spring.config.on-not-found=ignore",
+        "spring.cloud.consul.config.fail-fast=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "vacancy.time_expiration=P30D"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ApplicationServiceImpl.class, ApplicationMapperImpl.class, CommonMapperImpl.class,
+        ApplicationMapperHelper.class, PageTotalsResolver.class})
+public class CandidateApplicationsQueryCountTest {
+
+    private static final String CANDIDATE_ID = "candidate-1";
+    private static final int PAGE_SIZE = 15;
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private ApplicationServiceImpl applicationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private SecurityContextService securityContextService;
+
+    @MockBean
+    private CompanyPreviewCache companyPreviewCache;
+
+    @MockBean
+    private CvFeignClient cvFeignClient;
+
+    @MockBean
+    private UserApprovalProjection userApprovalProjection;
+
+    @MockBean
+    private CandidateProfileProjection candidateProfileProjection;
+
+    @MockBean
+    private RecruitingAppNotificationEventPublisher publisher;
+
+    @MockBean
+    private VacancySearchIndex vacancySearchIndex;
+
+    @MockBean
+    private VacancySearchResultCache vacancySearchResultCache;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        if (postgres == null) {
+            postgres = EmbeddedPostgres.builder().start();
+        }
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO recruiting_data.vacancy (company_id, recruiter_id, category_id, title, description, salary_from, salary_to, status)
+                SELECT gen_random_uuid(), 'recruiter', (SELECT id FROM recruiting_data.category LIMIT 1), 'Vacancy ' || n, 'Description', 1000, 2000, 'ENABLED'
+                FROM generate_series(1, 20) AS n
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO recruiting_data.application (vacancy_id, candidate_id, cv_id, status)
+                SELECT v.id, c.candidate_id, gen_random_uuid(), 'NEW'
+                FROM recruiting_data.vacancy v,
+                     (SELECT 'candidate-' || n AS candidate_id FROM generate_series(1, 3) AS n) c
+                """);
+
+        when(securityContextService.getSecurityContext(Credentials.SUB)).thenReturn(CANDIDATE_ID);
+        when(companyPreviewCache.previewInfo(anyCollection())).thenReturn(Map.of());
+    }
+
+    @Test
+    void shouldLoadPageOfCandidateApplicationsWithConstantNumberOfQueries() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        PageShortDto<CandidateApplicationsShortDto> page =
+                applicationService.getMyApplications(TotalsMode.EXACT, PageRequest.of(0, PAGE_SIZE));
+
+        assertEquals(PAGE_SIZE, page.allContent().size());
+        assertEquals(Map.of(3, PAGE_SIZE), page.allContent().stream()
+                .collect(Collectors.groupingBy(CandidateApplicationsShortDto::applicationNumber, Collectors.summingInt(dto -> 1))));
+        assertEquals(3, statistics.getPrepareStatementCount(), "page, total and grouped application count");
+    }
+}
@@ -0,0 +1,212 @@
+package org.yaroslaavl.recruitingservice;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.yaroslaavl.recruitingservice.broker.RecruitingAppNotificationEventPublisher;
+import org.yaroslaavl.recruitingservice.database.entity.CandidateProfile;
+import org.yaroslaavl.recruitingservice.database.entity.enums.Credentials;
+import org.yaroslaavl.recruitingservice.database.entity.enums.TotalsMode;
+import org.yaroslaavl.recruitingservice.dto.response.list.ApplicationShortDto;
+import org.yaroslaavl.recruitingservice.feignClient.cv.CvFeignClient;
+import org.yaroslaavl.recruitingservice.feignClient.user.CandidateProfileProjection;
+import org.yaroslaavl.recruitingservice.feignClient.user.CompanyPreviewCache;
+import org.yaroslaavl.recruitingservice.feignClient.user.UserApprovalProjection;
+import org.yaroslaavl.recruitingservice.feignClient.user.UserFeignClient;
+import org.yaroslaavl.recruitingservice.mapper.ApplicationMapperImpl;
+import org.yaroslaavl.recruitingservice.mapper.CommonMapperImpl;
+import org.yaroslaavl.recruitingservice.mapper.helper.ApplicationMapperHelper;
+import org.yaroslaavl.recruitingservice.service.SecurityContextService;
+import org.yaroslaavl.recruitingservice.service.impl.ApplicationServiceImpl;
+import org.yaroslaavl.recruitingservice.service.search.VacancySearchIndex;
+import org.yaroslaavl.recruitingservice.service.search.VacancySearchResultCache;
+import org.yaroslaavl.recruitingservice.util.PageTotalsResolver;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the recruiter's application listing and the candidate profile projection against an embedded Postgres, so the
+ * join filters and the ordering of profile updates are checked on the real queries.
+ */
+@DataJpaTest(properties = {
+        "spring.config.on-not-found=ignore",
+        "spring.cloud.consul.config.fail-fast=false",
+        "vacancy.time_expiration=P30D"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ApplicationServiceImpl.class, ApplicationMapperImpl.class, CommonMapperImpl.class,
+        ApplicationMapperHelper.class, PageTotalsResolver.class, CandidateProfileProjection.class})
+public class CandidateProfileProjectionTest {
+
+    private static final String RECRUITER_ID = "recruiter";
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private ApplicationServiceImpl applicationService;
+
+    @Autowired
+    private CandidateProfileProjection candidateProfileProjection;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private UserFeignClient userFeignClient;
+
+    @MockBean
+    private SecurityContextService securityContextService;
+
+    @MockBean
+    private CompanyPreviewCache companyPreviewCache;
+
+    @MockBean
+    private CvFeignClient cvFeignClient;
+
+    @MockBean
+    private UserApprovalProjection userApprovalProjection;
+
+    @MockBean
+    private RecruitingAppNotificationEventPublisher publisher;
+
+    @MockBean
+    private VacancySearchIndex vacancySearchIndex;
+
+    @MockBean
+    private VacancySearchResultCache vacancySearchResultCache;
+
+    private UUID vacancyId;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        if (postgres == null) {
+            postgres = EmbeddedPostgres.builder().start();
+        }
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        vacancyId = jdbcTemplate.queryForObject("""
+                INSERT INTO recruiting_data.vacancy (company_id, recruiter_id, category_id, title, description, salary_from, salary_to, status)
+                VALUES (gen_random_uuid(), ?, (SELECT id FROM recruiting_data.category LIMIT 1), 'Vacancy', 'Description', 1000, 2000, 'ENABLED')
+                RETURNING id
+                """, UUID.class, RECRUITER_ID);
+        jdbcTemplate.update("""
+                INSERT INTO recruiting_data.application (vacancy_id, candidate_id, cv_id, status)
+                SELECT ?, 'candidate-' || n, gen_random_uuid(), 'NEW' FROM generate_series(1, 3) AS n
+                """, vacancyId);
+
+        candidateProfileProjection.apply(profile("candidate-1", 3000, "REMOTE", 40, LocalDate.parse("2026-01-01"), Instant.now()));
+        candidateProfileProjection.apply(profile("candidate-2", 5000, "REMOTE", 20, LocalDate.parse("2026-03-01"), Instant.now()));
+
+        when(securityContextService.getSecurityContext(Credentials.SUB)).thenReturn(RECRUITER_ID);
+    }
+
+    @Test
+    void shouldFilterApplicationsByCandidateProfileRanges() {
+        assertEquals(Set.of("candidate-1", "candidate-2", "candidate-3"), listedCandidates(null, null, null, null));
+        assertEquals(Set.of("candidate-1"), listedCandidates(4000, null, null, null));
+        assertEquals(Set.of("candidate-1", "candidate-2"), listedCandidates(5000, "REMOTE", null, null));
+        assertEquals(Set.of("candidate-1"), listedCandidates(null, null, 30, null));
+        assertEquals(Set.of("candidate-1"), listedCandidates(null, null, null, LocalDate.parse("2026-02-01")));
+        assertEquals(Set.of(), listedCandidates(null, "ON_SITE", null, null));
+    }
+
+    @Test
+    void shouldListApplicantWithoutProfileWithoutCallingUserService() {
+        Map<String, ApplicationShortDto> applications = applicationService.getFilteredApplications(
+                        vacancyId, null, null, null, null, null, TotalsMode.EXACT, PageRequest.of(0, 15))
+                .allContent().stream()
+                .collect(Collectors.toMap(this::candidateOf, application -> application));
+
+        assertEquals(Set.of("candidate-1", "candidate-2", "candidate-3"), applications.keySet());
+        assertNull(applications.get("candidate-3").salary());
+        assertFalse(listedCandidates(null, "REMOTE", null, null).contains("candidate-3"));
+        verifyNoInteractions(userFeignClient);
+    }
+
+    @Test
+    void shouldKeepNewerProfileWhenOlderUpdateArrivesLater() {
+        Instant changedAt = Instant.parse("2026-05-01T10:00:00Z");
+
+        assertTrue(candidateProfileProjection.apply(profile("candidate-3", 7000, "HYBRID", 40, null, changedAt)));
+        assertFalse(candidateProfileProjection.apply(profile("candidate-3", 6000, "ON_SITE", 10, null, changedAt.minusSeconds(60))));
+        assertFalse(candidateProfileProjection.apply(profile("candidate-3", 6000, "ON_SITE", 10, null, changedAt)));
+
+        assertEquals(7000, storedSalary("candidate-3"));
+        assertEquals(changedAt, storedChangedAt("candidate-3"));
+
+        assertTrue(candidateProfileProjection.apply(profile("candidate-3", 8000, "REMOTE", 40, null, changedAt.plusSeconds(60))));
+        assertEquals(8000, storedSalary("candidate-3"));
+    }
+
+    private Set<String> listedCandidates(Integer salary, String workMode, Integer availableHoursPerWeek, LocalDate availableFrom) {
+        return applicationService.getFilteredApplications(vacancyId, null, salary, workMode, availableHoursPerWeek,
+                        availableFrom, TotalsMode.EXACT, PageRequest.of(0, 15))
+                .allContent().stream()
+                .map(this::candidateOf)
+                .collect(Collectors.toSet());
+    }
+
+    private String candidateOf(ApplicationShortDto application) {
+        return jdbcTemplate.queryForObject("SELECT candidate_id FROM recruiting_data.application WHERE id = ?",
+                String.class, application.id());
+    }
+
+    private Integer storedSalary(String userId) {
+        return jdbcTemplate.queryForObject("SELECT salary FROM recruiting_data.candidate_profile WHERE user_id = ?",
+                Integer.class, userId);
+    }
+
+    private Instant storedChangedAt(String userId) {
+        return jdbcTemplate.queryForObject("SELECT changed_at FROM recruiting_data.candidate_profile WHERE user_id = ?",
+                Timestamp.class, userId).toInstant();
+    }
+
+    private static CandidateProfile profile(String userId, Integer salary, String workMode, Integer availableHoursPerWeek,
+                                            LocalDate availableFrom, Instant changedAt) {
+        return CandidateProfile.builder()
+                .userId(userId)
+                .displayName("Candidate " + userId)
+                .salary(salary)
+                .workMode(workMode)
+                .availableHoursPerWeek(availableHoursPerWeek)
+                .availableFrom(availableFrom)
+                .changedAt(changedAt)
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package org.yaroslaavl.recruitingservice;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.yaroslaavl.recruitingservice.database.entity.Category;
+import org.yaroslaavl.recruitingservice.database.entity.enums.CategorySearchMode;
+import org.yaroslaavl.recruitingservice.database.repository.CategoryRepository;
+import org.yaroslaavl.recruitingservice.dto.response.CategoryResponseDto;
+import org.yaroslaavl.recruitingservice.mapper.CategoryMapper;
+import org.yaroslaavl.recruitingservice.service.impl.CategoryServiceImpl;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CategoryServiceTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private CategoryMapper categoryMapper;
+
+    @InjectMocks
+    private CategoryServiceImpl categoryService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(categoryService, "trigramSimilarityThreshold", 0.5);
+    }
+
+    @Test
+    void shouldMatchCategoriesBySubstringByDefault() {
+        List<Category> categories = List.of(new Category());
+        List<CategoryResponseDto> dtos = List.of(new CategoryResponseDto(UUID.randomUUID(), "Engineering", "Engineering jobs"));
+        when(categoryRepository.findFilteredCategories("engin")).thenReturn(categories);
+        when(categoryMapper.toListDto(categories)).thenReturn(dtos);
+
+        assertSame(dtos, categoryService.findFilteredCategories("engin", CategorySearchMode.LIKE));
+        assertSame(dtos, categoryService.findFilteredCategories("engin", null));
+
+        verify(categoryRepository, never()).applyWordSimilarityThreshold(anyString());
+        verify(categoryRepository, never()).findSimilarCategories(any());
+    }
+
+    @Test
+    void shouldMatchMisspelledCategoriesOnlyInTrigramMode() {
+        List<Category> categories = List.of(new Category());
+        List<CategoryResponseDto> dtos = List.of(new CategoryResponseDto(UUID.randomUUID(), "Engineering", "Engineering jobs"));
+        when(categoryRepository.findSimilarCategories("enginering")).thenReturn(categories);
+        when(categoryMapper.toListDto(categories)).thenReturn(dtos);
+
+        assertSame(dtos, categoryService.findFilteredCategories("enginering", CategorySearchMode.TRIGRAM));
+
+        InOrder inOrder = inOrder(categoryRepository);
+        inOrder.verify(categoryRepository).applyWordSimilarityThreshold("0.5");
+        inOrder.verify(categoryRepository).findSimilarCategories("enginering");
+        verify(categoryRepository, never()).findFilteredCategories(any());
+    }
+
+    @Test
+    void shouldListAllCategoriesWithoutSearchNameInTrigramMode() {
+        when(categoryRepository.findFilteredCategories(null)).thenReturn(List.of());
+        when(categoryMapper.toListDto(List.of())).thenReturn(List.of());
+
+        categoryService.findFilteredCategories(null, CategorySearchMode.TRIGRAM);
+
+        verify(categoryRepository, never()).applyWordSimilarityThreshold(anyString());
+        verify(categoryRepository, never()).findSimilarCategories(any());
+    }
+}
@@ -0,0 +1,78 @@
+package org.yaroslaavl.recruitingservice;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.yaroslaavl.recruitingservice.exception.RemoteServiceUnavailableException;
+import org.yaroslaavl.recruitingservice.feignClient.dto.CompanyPreviewFeignDto;
+import org.yaroslaavl.recruitingservice.feignClient.user.CompanyPreviewCache;
+import org.yaroslaavl.recruitingservice.feignClient.user.UserFeignClient;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CompanyPreviewCacheTest {
+
+    @Mock
+    private UserFeignClient userFeignClient;
+
+    private CompanyPreviewCache companyPreviewCache;
+
+    private final CompanyPreviewFeignDto first = preview("First");
+    private final CompanyPreviewFeignDto second = preview("Second");
+    private final UUID unknownCompanyId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        companyPreviewCache = new CompanyPreviewCache(userFeignClient, Duration.ofMinutes(10), Duration.ofMinutes(1), 100, Duration.ofDays(1),
+                Duration.ofMillis(2), 200, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldRequestOnlyCompaniesMissingFromCache() {
+        when(userFeignClient.previewInfo(anySet()))
+                .thenReturn(Map.of(first.id(), first))
+                .thenReturn(Map.of(second.id(), second));
+
+        Map<UUID, CompanyPreviewFeignDto> firstPage = companyPreviewCache.previewInfo(Set.of(first.id(), unknownCompanyId));
+        Map<UUID, CompanyPreviewFeignDto> secondPage = companyPreviewCache.previewInfo(Set.of(first.id(), second.id(), unknownCompanyId));
+        Map<UUID, CompanyPreviewFeignDto> thirdPage = companyPreviewCache.previewInfo(Set.of(first.id(), second.id(), unknownCompanyId));
+
+        assertEquals(Map.of(first.id(), first), firstPage);
+        assertEquals(Map.of(first.id(), first, second.id(), second), secondPage);
+        assertEquals(secondPage, thirdPage);
+        verify(userFeignClient).previewInfo(Set.of(first.id(), unknownCompanyId));
+        verify(userFeignClient).previewInfo(Set.of(second.id()));
+        verifyNoMoreInteractions(userFeignClient);
+    }
+
+    @Test
+    void shouldServeLastKnownPreviewsWhenUserServiceIsUnavailable() {
+        companyPreviewCache = new CompanyPreviewCache(userFeignClient, Duration.ZERO, Duration.ZERO, 100, Duration.ofDays(1),
+                Duration.ofMillis(2), 200, new SimpleMeterRegistry());
+
+        when(userFeignClient.previewInfo(anySet()))
+                .thenReturn(Map.of(first.id(), first))
+                .thenThrow(new RemoteServiceUnavailableException("user-service-previewInfo is unavailable"));
+
+        companyPreviewCache.previewInfo(Set.of(first.id()));
+        Map<UUID, CompanyPreviewFeignDto> stalePage = companyPreviewCache.previewInfo(Set.of(first.id(), second.id()));
+
+        assertEquals(Map.of(first.id(), first), stalePage);
+        verify(userFeignClient, times(2)).previewInfo(anySet());
+    }
+
+    private static CompanyPreviewFeignDto preview(String name) {
+        return new CompanyPreviewFeignDto(UUID.randomUUID(), name, "Szczecin", null);
+    }
+}
@@ -0,0 +1,69 @@
+package org.yaroslaavl.recruitingservice;
+
+import feign.Feign;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.yaroslaavl.recruitingservice.feignClient.cv.CvFeignClient;
+import org.yaroslaavl.recruitingservice.feignClient.dto.CompanyPreviewFeignDto;
+import org.yaroslaavl.recruitingservice.feignClient.user.UserFeignClient;
+import org.yaroslaavl.recruitingservice.stub.DownstreamStubServer;
+import org.yaroslaavl.recruitingservice.stub.StubSettings;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class DownstreamStubServerTest {
+
+    private static DownstreamStubServer stub;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        StubSettings.Behaviour instant = new StubSettings.Behaviour(Duration.ZERO, Duration.ZERO, 0);
+        stub = DownstreamStubServer.start(new StubSettings(0,
+                Map.of("user-service", instant, "cv-service", instant, "keycloak", instant), 10, Duration.ofMinutes(5)));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldServeFeignContractsAndVerifiableTokens() {
+        SpringDecoder decoder = new SpringDecoder(() -> new HttpMessageConverters(new MappingJackson2HttpMessageConverter()),
+                mock(ObjectProvider.class));
+        UserFeignClient userFeignClient = Feign.builder().contract(new SpringMvcContract()).decoder(decoder)
+                .target(UserFeignClient.class, stub.url() + "/api/v1");
+        CvFeignClient cvFeignClient = Feign.builder().contract(new SpringMvcContract()).decoder(decoder)
+                .target(CvFeignClient.class, stub.url() + "/api/v1");
+
+        UUID companyId = UUID.randomUUID();
+        UUID cvId = UUID.randomUUID();
+        Map<UUID, CompanyPreviewFeignDto> previews = userFeignClient.previewInfo(Set.of(companyId));
+
+        assertTrue(userFeignClient.isApproved("candidate"));
+        assertEquals(companyId, previews.get(companyId).id());
+        assertEquals(Set.of("a", "b"), userFeignClient.usersDisplayName(Set.of("a", "b"), "recruiter@example.com").keySet());
+        assertEquals(cvId, cvFeignClient.getCvForRecruiter(cvId).id());
+
+        Jwt jwt = NimbusJwtDecoder.withJwkSetUri(stub.url() + DownstreamStubServer.REALM_PATH + "/certs").build()
+                .decode(stub.issueToken("candidate", "candidate@example.com", List.of("ROLE_VERIFIED_CANDIDATE")));
+        assertEquals("candidate", jwt.getSubject());
+        assertEquals(List.of("ROLE_VERIFIED_CANDIDATE"), jwt.getClaimAsStringList("recruiter_app_roles"));
+    }
+}
@@ -0,0 +1,66 @@
+package org.yaroslaavl.recruitingservice;
+
+import feign.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.yaroslaavl.recruitingservice.exception.RemoteServiceUnavailableException;
+import org.yaroslaavl.recruitingservice.feignClient.FeignBulkhead;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FeignBulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final FeignBulkhead bulkhead = new FeignBulkhead(
+            new MockEnvironment().withProperty("feign.bulkhead.cv-service.max_concurrent_calls", "1"),
+            meterRegistry, 10, Duration.ofMillis(10));
+
+    @Test
+    void shouldRejectCallsAboveTheLimitOfTheirClientOnly() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Client client = bulkhead.enrich((Client) (request, options) -> {
+            entered.countDown();
+            await(release);
+            return Response.builder().status(200).request(request).headers(Map.of()).build();
+        });
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<Response> slowCall = executor.submit(() -> client.execute(request("cv-service"), new Request.Options()));
+            await(entered);
+
+            assertThrows(RemoteServiceUnavailableException.class, () -> client.execute(request("cv-service"), new Request.Options()));
+            Future<Response> otherClientCall = executor.submit(() -> client.execute(request("user-service"), new Request.Options()));
+
+            release.countDown();
+            assertEquals(200, slowCall.get(5, TimeUnit.SECONDS).status());
+            assertEquals(200, otherClientCall.get(5, TimeUnit.SECONDS).status());
+        }
+
+        assertEquals(200, client.execute(request("cv-service"), new Request.Options()).status());
+        assertEquals(1, meterRegistry.counter("feign.bulkhead.rejected", "client", "cv-service").count());
+    }
+
+    private static Request request(String clientName) {
+        RequestTemplate template = new RequestTemplate();
+        template.feignTarget(new Target.HardCodedTarget<>(Object.class, clientName, "http://" + clientName));
+
+        return Request.create(Request.HttpMethod.GET, "http://" + clientName + "/api/v1", Map.of(),
+                null, StandardCharsets.UTF_8, template);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.yaroslaavl.recruitingservice;
+
+import feign.*;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.yaroslaavl.recruitingservice.exception.RemoteServiceUnavailableException;
+import org.yaroslaavl.recruitingservice.feignClient.FeignCircuitBreaker;
+import org.yaroslaavl.recruitingservice.feignClient.user.UserFeignClient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FeignCircuitBreakerTest {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .slidingWindowSize(4)
+            .minimumNumberOfCalls(4)
+            .failureRateThreshold(50)
+            .build());
+
+    @Test
+    void shouldOpenBreakerOfFailingMethodOnly() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Client client = new FeignCircuitBreaker(circuitBreakerRegistry).enrich((Client) (request, options) -> {
+            calls.incrementAndGet();
+            int status = request.requestTemplate().methodMetadata().method().getName().equals("isApproved") ? 503 : 200;
+            return Response.builder().status(status).request(request).headers(Map.of()).build();
+        });
+
+        for (int i = 0; i < 4; i++) {
+            client.execute(request("isApproved"), new Request.Options());
+        }
+
+        assertThrows(RemoteServiceUnavailableException.class, () -> client.execute(request("isApproved"), new Request.Options()));
+        assertEquals(200, client.execute(request("previewInfo"), new Request.Options()).status());
+        assertEquals(5, calls.get());
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakerRegistry.circuitBreaker("user-service-isApproved").getState());
+    }
+
+    @Test
+    void shouldUseUnknownBreakerForRequestWithoutTarget() throws Exception {
+        Client client = new FeignCircuitBreaker(circuitBreakerRegistry).enrich((Client) (request, options) ->
+                Response.builder().status(200).request(request).headers(Map.of()).build());
+
+        RequestTemplate template = new RequestTemplate();
+        template.methodMetadata(request("isApproved").requestTemplate().methodMetadata());
+        Request request = Request.create(Request.HttpMethod.GET, "http://user-service/api/v1", Map.of(),
+                null, StandardCharsets.UTF_8, template);
+
+        assertEquals(200, client.execute(request, new Request.Options()).status());
+        assertEquals(1, circuitBreakerRegistry.circuitBreaker("unknown").getMetrics().getNumberOfSuccessfulCalls());
+    }
+
+    private static Request request(String methodName) {
+        MethodMetadata metadata = new SpringMvcContract().parseAndValidateMetadata(UserFeignClient.class).stream()
+                .filter(method -> method.method().getName().equals(methodName))
+                .findFirst()
+                .orElseThrow();
+
+        RequestTemplate template = new RequestTemplate();
+        template.feignTarget(new Target.HardCodedTarget<>(UserFeignClient.class, "user-service", "http://user-service"));
+        template.methodMetadata(metadata);
+
+        return Request.create(Request.HttpMethod.GET, "http://user-service/api/v1", Map.of(),
+                null, StandardCharsets.UTF_8, template);
+    }
+}
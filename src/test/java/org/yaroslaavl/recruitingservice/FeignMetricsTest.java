@@ -0,0 +1,62 @@
+package org.yaroslaavl.recruitingservice;
+
+import feign.Feign;
+import feign.FeignException;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.yaroslaavl.recruitingservice.feignClient.FeignMetrics;
+import org.yaroslaavl.recruitingservice.feignClient.user.UserFeignClient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+public class FeignMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRecordCallsByMethodAndOutcomeWithPayloadSizes() {
+        UUID companyId = UUID.randomUUID();
+        UserFeignClient userFeignClient = Feign.builder()
+                .contract(new SpringMvcContract())
+                .decoder(new SpringDecoder(() -> new HttpMessageConverters(new MappingJackson2HttpMessageConverter()),
+                        mock(ObjectProvider.class)))
+                .addCapability(new FeignMetrics(meterRegistry))
+                .client((request, options) -> {
+                    boolean preview = request.url().contains("/company/preview");
+                    String body = preview
+                            ? "{\"" + companyId + "\":{\"id\":\"" + companyId + "\",\"name\":\"Company\",\"location\":\"Szczecin\"}}"
+                            : "";
+                    return Response.builder()
+                            .status(preview ? 200 : 503)
+                            .request(request)
+                            .headers(Map.of("Content-Type", List.of("application/json")))
+                            .body(body, StandardCharsets.UTF_8)
+                            .build();
+                })
+                .target(UserFeignClient.class, "http://user-service/api/v1");
+
+        userFeignClient.previewInfo(Set.of(companyId, UUID.randomUUID()));
+        assertThrows(FeignException.class, () -> userFeignClient.isApproved("candidate"));
+
+        assertEquals(1, meterRegistry.get("feign.calls").tags("method", "previewInfo", "outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get("feign.calls").tags("method", "isApproved", "outcome", "server_error").timer().count());
+        assertEquals(2, meterRegistry.get("feign.request.ids").tags("method", "previewInfo").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("feign.response.entries").tags("method", "previewInfo").summary().totalAmount());
+        assertEquals(0, meterRegistry.find("feign.request.ids").tags("method", "isApproved").meters().size());
+    }
+}
@@ -0,0 +1,159 @@
+package org.yaroslaavl.recruitingservice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.core.io.ClassPathResource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs EXPLAIN on every hot repository query listed in {@code query-plan/hot_queries.sql} against an embedded
+ * Postgres migrated with the Flyway scripts and seeded with {@code query-plan/seed.sql}. A query fails when its
+ * plan contains a sequential scan over a table holding more rows than {@code query-plan.seq_scan_threshold}.
+ */
+public class QueryPlanTest {
+
+    private static final long SEQ_SCAN_THRESHOLD = Long.getLong("query-plan.seq_scan_threshold", 10000);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static EmbeddedPostgres postgres;
+    private static Map<String, String> parameters;
+
+    @BeforeAll
+    static void setUp() throws IOException, SQLException {
+        postgres = EmbeddedPostgres.builder().start();
+        DataSource dataSource = postgres.getPostgresDatabase();
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (String sql : read("query-plan/seed.sql").split(";\\s*\\n")) {
+                if (!sql.isBlank()) {
+                    statement.execute(sql);
+                }
+            }
+
+            parameters = Map.of(
+                    ":vacancyId", literal(statement, "SELECT vacancy_id FROM recruiting_data.application ORDER BY applied_at DESC LIMIT 1"),
+                    ":candidateId", literal(statement, "SELECT candidate_id FROM recruiting_data.application ORDER BY applied_at DESC LIMIT 1"),
+                    ":applicationId", literal(statement, "SELECT id FROM recruiting_data.application ORDER BY applied_at DESC LIMIT 1"),
+                    ":companyId", literal(statement, "SELECT company_id FROM recruiting_data.vacancy WHERE status = 'ENABLED' LIMIT 1"),
+                    ":userId", literal(statement, "SELECT user_id FROM recruiting_data.report_system ORDER BY created_at DESC LIMIT 1"));
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @TestFactory
+    List<DynamicTest> hotQueriesShouldNotScanLargeTablesSequentially() throws IOException {
+        List<DynamicTest> tests = new ArrayList<>();
+
+        for (Map.Entry<String, String> query : hotQueries().entrySet()) {
+            tests.add(DynamicTest.dynamicTest(query.getKey(), () -> {
+                JsonNode plan = explain(query.getValue());
+                List<String> scannedTables = new ArrayList<>();
+                collectSequentialScans(plan, scannedTables);
+
+                assertEquals(List.of(), largeTables(scannedTables),
+                        () -> query.getKey() + " scans a table above " + SEQ_SCAN_THRESHOLD + " rows sequentially:\n" + plan.toPrettyString());
+            }));
+        }
+
+        assertFalse(tests.isEmpty());
+        return tests;
+    }
+
+    private static JsonNode explain(String sql) throws SQLException, IOException {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN (FORMAT JSON) " + sql)) {
+            resultSet.next();
+            return OBJECT_MAPPER.readTree(resultSet.getString(1)).get(0).get("Plan");
+        }
+    }
+
+    private static void collectSequentialScans(JsonNode node, List<String> scannedTables) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            scannedTables.add(node.path("Relation Name").asText());
+        }
+
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, scannedTables);
+        }
+    }
+
+    private static List<String> largeTables(List<String> tables) throws SQLException {
+        List<String> largeTables = new ArrayList<>();
+
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String table : tables) {
+                try (ResultSet resultSet = statement.executeQuery(
+                        "SELECT reltuples FROM pg_class WHERE oid = 'recruiting_data." + table + "'::regclass")) {
+                    resultSet.next();
+                    if (resultSet.getLong(1) > SEQ_SCAN_THRESHOLD) {
+                        largeTables.add(table);
+                    }
+                }
+            }
+        }
+        return largeTables;
+    }
+
+    private static Map<String, String> hotQueries() throws IOException {
+        Map<String, String> queries = new LinkedHashMap<>();
+
+        for (String block : read("query-plan/hot_queries.sql").split("-- name: ")) {
+            if (!block.startsWith("-- ")) {
+                String name = block.substring(0, block.indexOf('\n')).strip();
+                String sql = block.substring(block.indexOf('\n') + 1).strip();
+
+                for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+                    sql = sql.replaceAll(Pattern.quote(parameter.getKey()) + "(?![\\w])",
+                            Matcher.quoteReplacement(parameter.getValue()));
+                }
+                queries.put(name, sql.substring(0, sql.lastIndexOf(';')));
+            }
+        }
+        return queries;
+    }
+
+    private static String literal(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return "'" + resultSet.getString(1) + "'";
+        }
+    }
+
+    private static String read(String path) throws IOException {
+        return new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,65 @@
+package org.yaroslaavl.recruitingservice;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.yaroslaavl.recruitingservice.feignClient.user.RecruiterMembershipCache;
+import org.yaroslaavl.recruitingservice.feignClient.user.UserFeignClient;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RecruiterMembershipCacheTest {
+
+    private static final String RECRUITER_ID = "c5a1e0a4-3f0e-4a53-9c3e-1b2f0d6f7a10";
+
+    @Mock
+    private UserFeignClient userFeignClient;
+
+    @Test
+    void shouldAskUserServiceOnceUntilMembershipEventEvictsIt() {
+        RecruiterMembershipCache cache = new RecruiterMembershipCache(userFeignClient,
+                Duration.ofMinutes(1), Duration.ofSeconds(10), 100, new SimpleMeterRegistry());
+        UUID companyId = UUID.randomUUID();
+        UUID otherCompanyId = UUID.randomUUID();
+        when(userFeignClient.isRecruiterBelongToCompany(RECRUITER_ID, companyId)).thenReturn(true, false);
+        when(userFeignClient.isRecruiterBelongToCompany(RECRUITER_ID, otherCompanyId)).thenReturn(true);
+
+        assertTrue(cache.isRecruiterBelongToCompany(RECRUITER_ID, companyId));
+        assertTrue(cache.isRecruiterBelongToCompany(RECRUITER_ID, companyId));
+        assertTrue(cache.isRecruiterBelongToCompany(RECRUITER_ID, otherCompanyId));
+        verify(userFeignClient, times(1)).isRecruiterBelongToCompany(RECRUITER_ID, companyId);
+
+        cache.evict(RECRUITER_ID, companyId);
+        assertFalse(cache.isRecruiterBelongToCompany(RECRUITER_ID, companyId));
+        assertTrue(cache.isRecruiterBelongToCompany(RECRUITER_ID, otherCompanyId));
+
+        cache.evict(RECRUITER_ID, null);
+        assertTrue(cache.isRecruiterBelongToCompany(RECRUITER_ID, otherCompanyId));
+        verify(userFeignClient, times(2)).isRecruiterBelongToCompany(RECRUITER_ID, otherCompanyId);
+    }
+
+    @Test
+    void shouldNotCacheMembershipCheckedWhileItWasEvicted() {
+        RecruiterMembershipCache cache = new RecruiterMembershipCache(userFeignClient,
+                Duration.ofMinutes(1), Duration.ofSeconds(10), 100, new SimpleMeterRegistry());
+        UUID companyId = UUID.randomUUID();
+        when(userFeignClient.isRecruiterBelongToCompany(RECRUITER_ID, companyId))
+                .thenAnswer(invocation -> {
+                    cache.evict(RECRUITER_ID, null);
+                    return true;
+                })
+                .thenReturn(false);
+
+        assertTrue(cache.isRecruiterBelongToCompany(RECRUITER_ID, companyId));
+        assertFalse(cache.isRecruiterBelongToCompany(RECRUITER_ID, companyId));
+        verify(userFeignClient, times(2)).isRecruiterBelongToCompany(RECRUITER_ID, companyId);
+    }
+}
@@ -0,0 +1,102 @@
+package org.yaroslaavl.recruitingservice;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.yaroslaavl.recruitingservice.exception.ServiceTokenException;
+import org.yaroslaavl.recruitingservice.feignClient.TokenManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+public class TokenManagerTest {
+
+    private static final String TOKEN_URL = "http://keycloak/token";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TokenManager tokenManager = new TokenManager(meterRegistry,
+            Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofMillis(500));
+
+    private MockRestServiceServer keycloak;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tokenManager, "clientId", "recruiting-service");
+        ReflectionTestUtils.setField(tokenManager, "clientSecret", "secret");
+        ReflectionTestUtils.setField(tokenManager, "tokenUrl", TOKEN_URL);
+        ReflectionTestUtils.setField(tokenManager, "refreshAhead", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(tokenManager, "expiryMargin", Duration.ofSeconds(5));
+        keycloak = MockRestServiceServer.bindTo((RestTemplate) ReflectionTestUtils.getField(tokenManager, "restTemplate")).build();
+    }
+
+    @Test
+    void shouldFetchTokenOnceForConcurrentCallersAndReuseIt() throws Exception {
+        keycloak.expect(once(), requestTo(TOKEN_URL))
+                .andRespond(withSuccess("{\"access_token\":\"token\",\"expires_in\":300}", MediaType.APPLICATION_JSON));
+
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService callers = Executors.newFixedThreadPool(16)) {
+            List<Future<String>> tokens = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                tokens.add(callers.submit(() -> {
+                    start.await();
+                    return tokenManager.getServiceToken();
+                }));
+            }
+            start.countDown();
+
+            for (Future<String> token : tokens) {
+                assertEquals("token", token.get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals("token", tokenManager.getServiceToken());
+        keycloak.verify();
+        assertEquals(1, meterRegistry.timer("service.token.fetch", "outcome", "success").count());
+        assertEquals(17, meterRegistry.timer("service.token.acquire", "source", "fetch").count()
+                + meterRegistry.timer("service.token.acquire", "source", "cache").count());
+    }
+
+    @Test
+    void shouldRejectTokenResponseWithoutLifetimeOrToken() {
+        keycloak.expect(once(), requestTo(TOKEN_URL))
+                .andRespond(withSuccess("{\"access_token\":\"token\"}", MediaType.APPLICATION_JSON));
+        keycloak.expect(once(), requestTo(TOKEN_URL))
+                .andRespond(withSuccess("{\"expires_in\":300}", MediaType.APPLICATION_JSON));
+
+        assertThrows(ServiceTokenException.class, tokenManager::getServiceToken);
+        assertThrows(ServiceTokenException.class, tokenManager::getServiceToken);
+        keycloak.verify();
+        assertEquals(0, meterRegistry.timer("service.token.fetch", "outcome", "success").count());
+        assertEquals(2, meterRegistry.timer("service.token.fetch", "outcome", "failure").count());
+    }
+
+    @Test
+    void shouldStopWaitingForSlowKeycloakAfterAcquireTimeout() {
+        keycloak.expect(once(), requestTo(TOKEN_URL))
+                .andRespond(request -> {
+                    try {
+                        Thread.sleep(2000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return withSuccess("{\"access_token\":\"token\",\"expires_in\":300}", MediaType.APPLICATION_JSON)
+                            .createResponse(request);
+                });
+
+        assertThrows(ServiceTokenException.class, tokenManager::getServiceToken);
+        assertEquals(1, meterRegistry.timer("service.token.acquire", "source", "failure").count());
+    }
+}
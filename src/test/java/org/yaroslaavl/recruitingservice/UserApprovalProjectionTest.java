@@ -0,0 +1,54 @@
+package org.yaroslaavl.recruitingservice;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.yaroslaavl.recruitingservice.feignClient.user.UserApprovalProjection;
+import org.yaroslaavl.recruitingservice.feignClient.user.UserFeignClient;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserApprovalProjectionTest {
+
+    private static final String USER_ID = "81c3aaeb-b0f3-4f38-a3bf-f9ce2c22c4e1";
+
+    @Mock
+    private UserFeignClient userFeignClient;
+
+    @Test
+    void shouldLoadMissOnceAndFollowApprovalEvents() {
+        UserApprovalProjection projection = new UserApprovalProjection(userFeignClient, Duration.ofHours(1), 100, new SimpleMeterRegistry());
+        when(userFeignClient.isApproved(USER_ID)).thenReturn(false);
+
+        assertFalse(projection.isApproved(USER_ID));
+        assertFalse(projection.isApproved(USER_ID));
+
+        projection.apply(USER_ID, true, Instant.now());
+        assertTrue(projection.isApproved(USER_ID));
+
+        projection.apply(USER_ID, false, Instant.now().minus(Duration.ofMinutes(5)));
+        assertTrue(projection.isApproved(USER_ID));
+
+        verify(userFeignClient, times(1)).isApproved(USER_ID);
+    }
+
+    @Test
+    void shouldReloadFromUserServiceAfterResync() {
+        UserApprovalProjection projection = new UserApprovalProjection(userFeignClient, Duration.ofHours(1), 100, new SimpleMeterRegistry());
+        when(userFeignClient.isApproved(USER_ID)).thenReturn(true, false);
+
+        assertTrue(projection.isApproved(USER_ID));
+        projection.invalidateAll();
+        assertFalse(projection.isApproved(USER_ID));
+
+        verify(userFeignClient, times(2)).isApproved(USER_ID);
+    }
+}
@@ -0,0 +1,71 @@
+package org.yaroslaavl.recruitingservice;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.yaroslaavl.recruitingservice.exception.RemoteServiceUnavailableException;
+import org.yaroslaavl.recruitingservice.feignClient.user.UserDisplayNameLoader;
+import org.yaroslaavl.recruitingservice.feignClient.user.UserFeignClient;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserDisplayNameLoaderTest {
+
+    private static final String MODERATOR_EMAIL = "moderator@example.com";
+
+    @Mock
+    private UserFeignClient userFeignClient;
+
+    private UserDisplayNameLoader userDisplayNameLoader;
+
+    @BeforeEach
+    void setUp() {
+        userDisplayNameLoader = new UserDisplayNameLoader(userFeignClient, Duration.ofMillis(2), 200,
+                Duration.ofMinutes(10), Duration.ofMinutes(1), Duration.ofDays(1), 100, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldRequestOnlyUsersMissingFromCache() {
+        when(userFeignClient.usersDisplayName(anySet(), eq(MODERATOR_EMAIL)))
+                .thenReturn(Map.of("reporter-1", "Anna Nowak"))
+                .thenReturn(Map.of("reporter-2", "Jan Kowalski"));
+
+        Map<String, String> firstPage = userDisplayNameLoader.usersDisplayName(Set.of("reporter-1", "deleted-user"), MODERATOR_EMAIL);
+        Map<String, String> secondPage = userDisplayNameLoader.usersDisplayName(Set.of("reporter-1", "reporter-2", "deleted-user"), MODERATOR_EMAIL);
+        Map<String, String> thirdPage = userDisplayNameLoader.usersDisplayName(Set.of("reporter-1", "reporter-2", "deleted-user"), MODERATOR_EMAIL);
+
+        assertEquals(Map.of("reporter-1", "Anna Nowak"), firstPage);
+        assertEquals(Map.of("reporter-1", "Anna Nowak", "reporter-2", "Jan Kowalski"), secondPage);
+        assertEquals(secondPage, thirdPage);
+        verify(userFeignClient).usersDisplayName(Set.of("reporter-1", "deleted-user"), MODERATOR_EMAIL);
+        verify(userFeignClient).usersDisplayName(Set.of("reporter-2"), MODERATOR_EMAIL);
+        verifyNoMoreInteractions(userFeignClient);
+    }
+
+    @Test
+    void shouldServeLastKnownNamesWhenUserServiceIsUnavailable() {
+        userDisplayNameLoader = new UserDisplayNameLoader(userFeignClient, Duration.ofMillis(2), 200,
+                Duration.ZERO, Duration.ZERO, Duration.ofDays(1), 100, new SimpleMeterRegistry());
+
+        when(userFeignClient.usersDisplayName(anySet(), eq(MODERATOR_EMAIL)))
+                .thenReturn(Map.of("reporter-1", "Anna Nowak"))
+                .thenThrow(new RemoteServiceUnavailableException("user-service-usersDisplayName is unavailable"));
+
+        userDisplayNameLoader.usersDisplayName(Set.of("reporter-1"), MODERATOR_EMAIL);
+        Map<String, String> stalePage = userDisplayNameLoader.usersDisplayName(Set.of("reporter-1", "reporter-2"), MODERATOR_EMAIL);
+
+        assertEquals(Map.of("reporter-1", "Anna Nowak"), stalePage);
+        verify(userFeignClient, times(2)).usersDisplayName(anySet(), eq(MODERATOR_EMAIL));
+    }
+}
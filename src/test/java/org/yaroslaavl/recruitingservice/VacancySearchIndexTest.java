@@ -0,0 +1,158 @@
+package org.yaroslaavl.recruitingservice;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.yaroslaavl.recruitingservice.database.entity.enums.*;
+import org.yaroslaavl.recruitingservice.database.repository.VacancyRepository;
+import org.yaroslaavl.recruitingservice.dto.response.SalaryBucketDto;
+import org.yaroslaavl.recruitingservice.dto.response.SuggestionDto;
+import org.yaroslaavl.recruitingservice.dto.response.VacancyFacetsDto;
+import org.yaroslaavl.recruitingservice.service.search.IndexedVacancy;
+import org.yaroslaavl.recruitingservice.service.search.VacancyFacetCounter;
+import org.yaroslaavl.recruitingservice.service.search.VacancySearchCriteria;
+import org.yaroslaavl.recruitingservice.service.search.VacancySearchIndex;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class VacancySearchIndexTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Mock
+    private VacancyRepository vacancyRepository;
+
+    @InjectMocks
+    private VacancySearchIndex vacancySearchIndex;
+
+    private final IndexedVacancy javaDeveloper = vacancy("Senior Java Developer", "Szczecin", "IT", WorkMode.REMOTE, 10000, 15000, 3);
+    private final IndexedVacancy accountant = vacancy("Accountant", "Warszawa", "Finance", WorkMode.ONSITE, 6000, 8000, 2);
+    private final IndexedVacancy javaTester = vacancy("Java Tester", "Krakow", "IT", WorkMode.HYBRID, 7000, 9000, 1);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(vacancySearchIndex, "enabled", true);
+        when(vacancyRepository.findAllIndexedVacancies()).thenReturn(List.of(accountant, javaTester, javaDeveloper));
+        vacancySearchIndex.rebuild();
+    }
+
+    @Test
+    void shouldMatchSubstringsAndFiltersInSearchOrder() {
+        Page<UUID> javaVacancies = search(new VacancySearchCriteria("JAV", null, null, null, null, null, null, null, FROM, LocalDateTime.now()));
+        Page<UUID> cheapVacancies = search(new VacancySearchCriteria("", null, null, null, null, null, 9000, null, FROM, LocalDateTime.now()));
+        Page<UUID> remoteItVacancies = search(new VacancySearchCriteria("it", null, WorkMode.REMOTE, null, null, null, null, null, FROM, LocalDateTime.now()));
+        Page<UUID> innerSubstringVacancies = search(new VacancySearchCriteria("ENIOR JAV", null, null, null, null, null, null, null, FROM, LocalDateTime.now()));
+        Page<UUID> unknownVacancies = search(new VacancySearchCriteria("javascript", null, null, null, null, null, null, null, FROM, LocalDateTime.now()));
+
+        assertEquals(List.of(javaTester.id(), javaDeveloper.id()), javaVacancies.getContent());
+        assertEquals(List.of(javaTester.id(), accountant.id()), cheapVacancies.getContent());
+        assertEquals(List.of(javaDeveloper.id()), remoteItVacancies.getContent());
+        assertEquals(List.of(javaDeveloper.id()), innerSubstringVacancies.getContent());
+        assertEquals(List.of(), unknownVacancies.getContent());
+    }
+
+    @Test
+    void shouldMatchOverlappingSalaryRanges() {
+        Page<UUID> withinVacancies = search(new VacancySearchCriteria("", null, null, null, null, 7500, 12000, SalaryRangeMode.WITHIN, FROM, LocalDateTime.now()));
+        Page<UUID> overlappingVacancies = search(new VacancySearchCriteria("", null, null, null, null, 7500, 12000, SalaryRangeMode.OVERLAPS, FROM, LocalDateTime.now()));
+        Page<UUID> highVacancies = search(new VacancySearchCriteria("", null, null, null, null, 14000, null, SalaryRangeMode.OVERLAPS, FROM, LocalDateTime.now()));
+
+        assertEquals(List.of(), withinVacancies.getContent());
+        assertEquals(List.of(javaTester.id(), accountant.id(), javaDeveloper.id()), overlappingVacancies.getContent());
+        assertEquals(List.of(javaDeveloper.id()), highVacancies.getContent());
+    }
+
+    @Test
+    void shouldDropVacancyThatIsNoLongerEnabled() {
+        IndexedVacancy expired = new IndexedVacancy(javaTester.id(), javaTester.companyId(), javaTester.title(), javaTester.location(),
+                javaTester.categoryName(), null, javaTester.workMode(), null, null, javaTester.salaryFrom(), javaTester.salaryTo(),
+                VacancyStatus.TIME_EXPIRED, javaTester.createdAt());
+
+        when(vacancyRepository.findIndexedVacanciesByIds(anyCollection())).thenReturn(List.of(expired));
+        vacancySearchIndex.refresh(Set.of(javaTester.id()));
+
+        Page<UUID> javaVacancies = search(new VacancySearchCriteria("java", null, null, null, null, null, null, null, FROM, LocalDateTime.now()));
+
+        assertEquals(List.of(javaDeveloper.id()), javaVacancies.getContent());
+        assertEquals(1, javaVacancies.getTotalElements());
+    }
+
+    @Test
+    void shouldKeepRefreshAppliedWhileRebuildReadsTheDatabase() {
+        IndexedVacancy expired = new IndexedVacancy(javaTester.id(), javaTester.companyId(), javaTester.title(), javaTester.location(),
+                javaTester.categoryName(), null, javaTester.workMode(), null, null, javaTester.salaryFrom(), javaTester.salaryTo(),
+                VacancyStatus.TIME_EXPIRED, javaTester.createdAt());
+
+        when(vacancyRepository.findIndexedVacanciesByIds(anyCollection())).thenReturn(List.of(expired));
+        when(vacancyRepository.findAllIndexedVacancies()).thenAnswer(invocation -> {
+            vacancySearchIndex.refresh(Set.of(javaTester.id()));
+            return List.of(accountant, javaTester, javaDeveloper);
+        });
+        vacancySearchIndex.rebuild();
+
+        Page<UUID> javaVacancies = search(new VacancySearchCriteria("java", null, null, null, null, null, null, null, FROM, LocalDateTime.now()));
+
+        assertEquals(List.of(javaDeveloper.id()), javaVacancies.getContent());
+    }
+
+    @Test
+    void shouldSuggestMostUsedCompletionsOfEnabledVacancies() {
+        IndexedVacancy expired = new IndexedVacancy(accountant.id(), accountant.companyId(), accountant.title(), accountant.location(),
+                accountant.categoryName(), null, accountant.workMode(), null, null, accountant.salaryFrom(), accountant.salaryTo(),
+                VacancyStatus.TIME_EXPIRED, accountant.createdAt());
+
+        assertEquals(List.of(new SuggestionDto("IT", SuggestionType.CATEGORY, 2)), suggest("i", 10));
+        assertEquals(List.of(new SuggestionDto("Senior Java Developer", SuggestionType.TITLE, 1)), suggest("DEV", 10));
+        assertEquals(List.of("Java Tester", "Senior Java Developer"), suggest("java ", 10).stream().map(SuggestionDto::text).sorted().toList());
+        assertEquals(List.of(new SuggestionDto("Warszawa", SuggestionType.LOCATION, 1)), suggest("wars", 10));
+
+        when(vacancyRepository.findIndexedVacanciesByIds(anyCollection())).thenReturn(List.of(expired));
+        vacancySearchIndex.refresh(Set.of(accountant.id()));
+
+        assertEquals(List.of(), suggest("wars", 10));
+        assertEquals(List.of(), suggest("accountant", 10));
+    }
+
+    @Test
+    void shouldCountFacetsIgnoringTheirOwnFilter() {
+        VacancySearchCriteria criteria = new VacancySearchCriteria("", null, WorkMode.REMOTE, null, null, null, null, null, FROM, LocalDateTime.now());
+        VacancyFacetCounter counter = new VacancyFacetCounter(criteria, 5000, 4);
+
+        vacancySearchIndex.countFacets(criteria, counter);
+        VacancyFacetsDto facets = counter.toDto();
+
+        assertEquals(1, facets.totalElements());
+        assertEquals(Map.of(WorkMode.REMOTE, 1L, WorkMode.ONSITE, 1L, WorkMode.HYBRID, 1L), facets.workModes());
+        assertEquals(List.of(0L, 0L, 1L, 0L), facets.salaries().stream().map(SalaryBucketDto::count).toList());
+    }
+
+    private Page<UUID> search(VacancySearchCriteria criteria) {
+        return vacancySearchIndex.search(criteria, PageRequest.of(0, 10)).orElseThrow();
+    }
+
+    private List<SuggestionDto> suggest(String query, int limit) {
+        return vacancySearchIndex.suggest(query, limit).orElseThrow();
+    }
+
+    private static IndexedVacancy vacancy(String title, String location, String category, WorkMode workMode,
+                                          int salaryFrom, int salaryTo, int daysAgo) {
+        return new IndexedVacancy(UUID.randomUUID(), UUID.randomUUID(), title, location, category,
+                null, workMode, null, null, salaryFrom, salaryTo, VacancyStatus.ENABLED,
+                LocalDateTime.now().minusDays(daysAgo));
+    }
+}
@@ -1,26 +1,48 @@
 package org.yaroslaavl.recruitingservice;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.yaroslaavl.recruitingservice.database.entity.Vacancy;
 import org.yaroslaavl.recruitingservice.database.entity.enums.*;
+import org.yaroslaavl.recruitingservice.database.projection.VacancyCard;
 import org.yaroslaavl.recruitingservice.database.repository.VacancyRepository;
+import org.yaroslaavl.recruitingservice.dto.request.VacancyUpdateRequestDto;
 import org.yaroslaavl.recruitingservice.dto.response.VacancyResponseDto;
+import org.yaroslaavl.recruitingservice.dto.response.list.CursorPageShortDto;
 import org.yaroslaavl.recruitingservice.dto.response.list.PageShortDto;
 import org.yaroslaavl.recruitingservice.dto.response.list.VacancyShortDto;
 import org.yaroslaavl.recruitingservice.feignClient.dto.CompanyPreviewFeignDto;
-import org.yaroslaavl.recruitingservice.feignClient.user.UserFeignClient;
+import org.yaroslaavl.recruitingservice.feignClient.user.CompanyPreviewCache;
+import org.yaroslaavl.recruitingservice.feignClient.user.RecruiterMembershipCache;
 import org.yaroslaavl.recruitingservice.mapper.VacancyMapper;
+import org.yaroslaavl.recruitingservice.service.SecurityContextService;
 import org.yaroslaavl.recruitingservice.service.VacancyService;
+import org.yaroslaavl.recruitingservice.service.search.VacancySearchIndex;
+import org.yaroslaavl.recruitingservice.service.search.VacancySearchResultCache;
 import org.yaroslaavl.recruitingservice.service.impl.VacancyServiceImpl;
+import org.yaroslaavl.recruitingservice.util.KeysetCursor;
+import org.yaroslaavl.recruitingservice.util.PageTotalsResolver;
+import org.yaroslaavl.recruitingservice.util.VacancyOwnershipContext;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +50,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -38,14 +61,37 @@ public class VacancyServiceTest {
     private VacancyRepository vacancyRepository;
 
     @Mock
-    private UserFeignClient userFeignClient;
+    private RecruiterMembershipCache recruiterMembershipCache;
+
+    @Mock
+    private CompanyPreviewCache companyPreviewCache;
 
     @Mock
     private VacancyMapper vacancyMapper;
 
+    @Mock
+    private VacancySearchIndex vacancySearchIndex;
+
+    @Spy
+    private PageTotalsResolver pageTotalsResolver = new PageTotalsResolver(Duration.ofMinutes(5), 100);
+
+    @Spy
+    private VacancySearchResultCache vacancySearchResultCache = new VacancySearchResultCache(Duration.ofMinutes(1), 100, 2, new SimpleMeterRegistry());
+
+    @Mock
+    private SecurityContextService securityContextService;
+
+    @Spy
+    private VacancyOwnershipContext vacancyOwnershipContext = new VacancyOwnershipContext();
+
     @InjectMocks
     private VacancyServiceImpl vacancyService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(vacancyService, "scrollMaxSize", 100);
+    }
+
     @Test
     void shouldReturnArchivedVacancy() {
         UUID vacancyId = UUID.randomUUID();
@@ -91,27 +137,25 @@ public class VacancyServiceTest {
 
         UUID companyId = UUID.randomUUID();
 
-        Vacancy vacancy = new Vacancy();
-        vacancy.setCompanyId(companyId);
-        vacancy.setTitle("Backend");
+        VacancyCard vacancy = card(UUID.randomUUID(), companyId, null);
 
-        Page<Vacancy> vacancyPage =
+        Page<VacancyCard> vacancyPage =
                 new PageImpl<>(List.of(vacancy), pageable, 1);
 
         when(vacancyRepository.getFilteredVacancies(
                 eq("Backend"), any(), any(), any(), any(),
-                any(), any(), any(), any(), any(Pageable.class)
+                any(), any(), any(), any(), any(), any(Pageable.class)
         )).thenReturn(vacancyPage);
 
         when(vacancyRepository.getFilteredVacancies(
                 eq("Backend2"), any(), any(), any(), any(),
-                any(), any(), any(), any(), any(Pageable.class)
+                any(), any(), any(), any(), any(), any(Pageable.class)
         )).thenReturn(new PageImpl<>(List.of(), pageable, 0));
 
         Map<UUID, CompanyPreviewFeignDto> companyMap =
                 Map.of(companyId, new CompanyPreviewFeignDto(UUID.fromString("ee221091-9673-43b7-9d65-ff4bf6292788"), "Company", "Szczecin", ""));
 
-        when(userFeignClient.previewInfo(anySet()))
+        when(companyPreviewCache.previewInfo(anySet()))
                 .thenReturn(companyMap);
 
         when(vacancyMapper.toShortDto(anyList(), anyMap()))
@@ -121,7 +165,9 @@ public class VacancyServiceTest {
                 vacancyService.getFilteredVacancies(
                         "Backend",
                         null, null, null, null,
-                        null, null, null,
+                        null, null, SalaryRangeMode.WITHIN, null,
+                        VacancySearchMode.LIKE,
+                        TotalsMode.EXACT,
                         pageable
                 );
 
@@ -129,7 +175,9 @@ public class VacancyServiceTest {
                 vacancyService.getFilteredVacancies(
                         "Backend2",
                         null, null, null, null,
-                        null, null, null,
+                        null, null, SalaryRangeMode.WITHIN, null,
+                        VacancySearchMode.LIKE,
+                        TotalsMode.EXACT,
                         pageable
                 );
 
@@ -137,4 +185,250 @@ public class VacancyServiceTest {
         assertEquals(0, result2.totalElements());
         assertEquals(1, result.allContent().size());
     }
+
+    @Test
+    void shouldKeepFullTextRankingOrderWhenHydratingVacancies() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        UUID companyId = UUID.randomUUID();
+
+        VacancyCard first = card(UUID.randomUUID(), companyId, null);
+        VacancyCard second = card(UUID.randomUUID(), companyId, null);
+
+        when(vacancyRepository.getFullTextFilteredVacancyIds(
+                eq("java developer"), any(), any(), any(), any(),
+                any(), any(), any(), any(), any(), any(Pageable.class)
+        )).thenReturn(new PageImpl<>(List.of(second.id(), first.id()), pageable, 2));
+
+        when(vacancyRepository.getVacancyCardsByIds(anyCollection()))
+                .thenReturn(List.of(first, second));
+
+        when(companyPreviewCache.previewInfo(anySet()))
+                .thenReturn(Map.of());
+
+        when(vacancyMapper.toShortDto(anyList(), anyMap()))
+                .thenReturn(List.of(mock(VacancyShortDto.class), mock(VacancyShortDto.class)));
+
+        PageShortDto<VacancyShortDto> result =
+                vacancyService.getFilteredVacancies(
+                        "java developer",
+                        null, null, null, null,
+                        null, null, SalaryRangeMode.WITHIN, null,
+                        VacancySearchMode.FULL_TEXT,
+                        TotalsMode.EXACT,
+                        pageable
+                );
+
+        assertEquals(2, result.totalElements());
+        verify(vacancyMapper).toShortDto(eq(List.of(second, first)), anyMap());
+        verify(vacancyRepository, never()).getFilteredVacancies(
+                any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void shouldApplySimilarityThresholdBeforeTrigramSearchAndKeepItsOrder() {
+        Pageable pageable = PageRequest.of(0, 10);
+        ReflectionTestUtils.setField(vacancyService, "trigramSimilarityThreshold", 0.4);
+
+        UUID companyId = UUID.randomUUID();
+
+        VacancyCard first = card(UUID.randomUUID(), companyId, null);
+        VacancyCard second = card(UUID.randomUUID(), companyId, null);
+
+        when(vacancyRepository.getTrigramFilteredVacancyIds(
+                eq("backnd"), any(), any(), any(), any(),
+                any(), any(), any(), any(), any(), any(Pageable.class)
+        )).thenReturn(new PageImpl<>(List.of(second.id(), first.id()), pageable, 2));
+
+        when(vacancyRepository.getVacancyCardsByIds(anyCollection()))
+                .thenReturn(List.of(first, second));
+
+        when(companyPreviewCache.previewInfo(anySet()))
+                .thenReturn(Map.of());
+
+        when(vacancyMapper.toShortDto(anyList(), anyMap()))
+                .thenReturn(List.of(mock(VacancyShortDto.class), mock(VacancyShortDto.class)));
+
+        PageShortDto<VacancyShortDto> result =
+                vacancyService.getFilteredVacancies(
+                        "backnd",
+                        null, null, null, null,
+                        null, null, SalaryRangeMode.WITHIN, null,
+                        VacancySearchMode.TRIGRAM,
+                        TotalsMode.EXACT,
+                        pageable
+                );
+
+        assertEquals(2, result.totalElements());
+        InOrder inOrder = inOrder(vacancyRepository);
+        inOrder.verify(vacancyRepository).applyWordSimilarityThreshold("0.4");
+        inOrder.verify(vacancyRepository).getTrigramFilteredVacancyIds(
+                eq("backnd"), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(Pageable.class));
+        verify(vacancyMapper).toShortDto(eq(List.of(second, first)), anyMap());
+        verifyNoInteractions(vacancySearchIndex);
+        verify(vacancyRepository, never()).getFilteredVacancies(
+                any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void shouldServeRepeatedSearchFromCacheUntilInvalidated() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        VacancyCard vacancy = card(UUID.randomUUID(), UUID.randomUUID(), null);
+
+        when(vacancyRepository.getFilteredVacancies(
+                eq("Backend"), any(), any(), any(), any(),
+                any(), any(), any(), any(), any(), any(Pageable.class)
+        )).thenReturn(new PageImpl<>(List.of(vacancy), pageable, 1));
+
+        when(companyPreviewCache.previewInfo(anySet()))
+                .thenReturn(Map.of());
+
+        when(vacancyMapper.toShortDto(anyList(), anyMap()))
+                .thenReturn(List.of(mock(VacancyShortDto.class)));
+
+        PageShortDto<VacancyShortDto> first = searchBackend("Backend", pageable);
+        PageShortDto<VacancyShortDto> second = searchBackend("backend", pageable);
+
+        assertSame(first, second);
+        verify(vacancyRepository, times(1)).getFilteredVacancies(
+                any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(Pageable.class));
+        verify(companyPreviewCache, times(1)).previewInfo(anySet());
+
+        vacancySearchResultCache.invalidateAll();
+        searchBackend("Backend", pageable);
+
+        verify(companyPreviewCache, times(2)).previewInfo(anySet());
+    }
+
+    @Test
+    void shouldSkipCountQueryWhenTotalsAreNotRequested() {
+        Pageable pageable = PageRequest.of(0, 1);
+        UUID companyId = UUID.randomUUID();
+
+        VacancyCard vacancy = card(UUID.randomUUID(), companyId, null);
+
+        when(vacancyRepository.sliceCompanyVacancies(companyId, pageable))
+                .thenReturn(new SliceImpl<>(List.of(vacancy), pageable, true));
+
+        when(companyPreviewCache.previewInfo(anySet()))
+                .thenReturn(Map.of());
+
+        when(vacancyMapper.toShortDto(anyList(), anyMap()))
+                .thenReturn(List.of(mock(VacancyShortDto.class)));
+
+        PageShortDto<VacancyShortDto> result =
+                vacancyService.getCompanyVacancies(companyId, TotalsMode.NONE, pageable);
+
+        assertEquals(-1, result.totalElements());
+        assertEquals(TotalsMode.NONE, result.totals());
+        assertEquals(true, result.hasNext());
+        verify(vacancyRepository, never()).getCompanyVacancies(any(), any(Pageable.class));
+    }
+
+    @Test
+    void shouldReturnNextCursorWhenMoreCompanyVacanciesExist() {
+        UUID companyId = UUID.randomUUID();
+
+        VacancyCard newest = card(UUID.randomUUID(), companyId, LocalDateTime.of(2025, 5, 2, 10, 0));
+        VacancyCard older = card(UUID.randomUUID(), companyId, LocalDateTime.of(2025, 5, 1, 10, 0));
+
+        KeysetCursor first = KeysetCursor.first();
+        when(vacancyRepository.scrollCompanyVacancyIds(eq(companyId), eq(first.createdAt()), eq(first.id()), any(Pageable.class)))
+                .thenReturn(List.of(newest.id(), older.id(), UUID.randomUUID()));
+
+        when(vacancyRepository.getVacancyCardsByIds(List.of(newest.id(), older.id())))
+                .thenReturn(List.of(older, newest));
+
+        when(companyPreviewCache.previewInfo(anySet()))
+                .thenReturn(Map.of());
+
+        when(vacancyMapper.toShortDto(anyList(), anyMap()))
+                .thenReturn(List.of(mock(VacancyShortDto.class), mock(VacancyShortDto.class)));
+
+        CursorPageShortDto<VacancyShortDto> result = vacancyService.scrollCompanyVacancies(companyId, null, 2);
+
+        KeysetCursor next = KeysetCursor.decode(result.nextCursor());
+        assertEquals(older.createdAt(), next.createdAt());
+        assertEquals(older.id(), next.id());
+        assertEquals(2, result.allContent().size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -5})
+    void shouldScrollAtLeastOneVacancyWhenSizeIsNotPositive(int size) {
+        UUID companyId = UUID.randomUUID();
+        VacancyCard newest = card(UUID.randomUUID(), companyId, LocalDateTime.of(2025, 5, 2, 10, 0));
+
+        KeysetCursor first = KeysetCursor.first();
+        when(vacancyRepository.scrollCompanyVacancyIds(companyId, first.createdAt(), first.id(), PageRequest.ofSize(2)))
+                .thenReturn(List.of(newest.id(), UUID.randomUUID()));
+        when(vacancyRepository.getVacancyCardsByIds(List.of(newest.id())))
+                .thenReturn(List.of(newest));
+        when(companyPreviewCache.previewInfo(anySet()))
+                .thenReturn(Map.of());
+        when(vacancyMapper.toShortDto(anyList(), anyMap()))
+                .thenReturn(List.of(mock(VacancyShortDto.class)));
+
+        CursorPageShortDto<VacancyShortDto> result = vacancyService.scrollCompanyVacancies(companyId, null, size);
+
+        assertEquals(1, result.allContent().size());
+        assertEquals(newest.id(), KeysetCursor.decode(result.nextCursor()).id());
+    }
+
+    @Test
+    void shouldCapScrollSizeAtConfiguredMaximum() {
+        UUID companyId = UUID.randomUUID();
+        KeysetCursor first = KeysetCursor.first();
+        when(vacancyRepository.scrollCompanyVacancyIds(companyId, first.createdAt(), first.id(), PageRequest.ofSize(101)))
+                .thenReturn(List.of());
+
+        vacancyService.scrollCompanyVacancies(companyId, null, 1_000_000);
+
+        verify(vacancyRepository).scrollCompanyVacancyIds(companyId, first.createdAt(), first.id(), PageRequest.ofSize(101));
+    }
+
+    private PageShortDto<VacancyShortDto> searchBackend(String textSearch, Pageable pageable) {
+        return vacancyService.getFilteredVacancies(
+                textSearch,
+                null, null, null, null,
+                null, null, SalaryRangeMode.WITHIN, null,
+                VacancySearchMode.LIKE,
+                TotalsMode.EXACT,
+                pageable
+        );
+    }
+
+    @Test
+    void shouldNotReloadVacancyWhoseOwnershipWasVerifiedInTheSameRequest() {
+        UUID vacancyId = UUID.randomUUID();
+        UUID companyId = UUID.randomUUID();
+        String recruiterId = "c5a1e0a4-3f0e-4a53-9c3e-1b2f0d6f7a10";
+
+        Vacancy vacancy = new Vacancy();
+        vacancy.setId(vacancyId);
+        vacancy.setRecruiterId(recruiterId);
+        vacancy.setStatus(VacancyStatus.DISABLED);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            vacancyOwnershipContext.markOwned(vacancyId, recruiterId);
+            when(securityContextService.getSecurityContext(Credentials.SUB)).thenReturn(recruiterId);
+            when(recruiterMembershipCache.isRecruiterBelongToCompany(recruiterId, companyId)).thenReturn(true);
+            when(vacancyRepository.findById(vacancyId)).thenReturn(Optional.of(vacancy));
+
+            vacancyService.update(vacancyId, new VacancyUpdateRequestDto(companyId, "Updated description", null, null,
+                    null, null, null, null, "Szczecin", 10000, 15000));
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        verify(vacancyRepository, times(1)).findById(vacancyId);
+        verify(vacancyMapper).updateEntity(any(), eq(vacancy));
+    }
+
+    private static VacancyCard card(UUID id, UUID companyId, LocalDateTime createdAt) {
+        return new VacancyCard(id, companyId, "IT", "Backend", null, null, null, null,
+                "Szczecin", 10000, 15000, createdAt);
+    }
 }
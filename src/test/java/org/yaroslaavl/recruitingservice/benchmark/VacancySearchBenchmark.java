@@ -0,0 +1,225 @@
+package org.yaroslaavl.recruitingservice.benchmark;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.yaroslaavl.recruitingservice.database.entity.enums.*;
+import org.yaroslaavl.recruitingservice.database.repository.VacancyRepository;
+import org.yaroslaavl.recruitingservice.service.search.IndexedVacancy;
+import org.yaroslaavl.recruitingservice.service.search.VacancySearchCriteria;
+import org.yaroslaavl.recruitingservice.service.search.VacancySearchIndex;
+
+import java.io.IOException;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the first page of the public vacancy search answered by {@link VacancySearchIndex} with the SQL path of
+ * {@code VacancyRepository#getFilteredVacancies} (page query plus count query) on an embedded Postgres migrated with
+ * the Flyway scripts. Both paths hydrate the returned page from the database, so the difference is the cost of
+ * finding the page and its total.
+ * <p>
+ * Run the {@link #main} method from the IDE, or after {@code mvn test-compile} with the test classpath:
+ * {@code java -cp target/test-classes:target/classes:<test classpath> org.yaroslaavl.recruitingservice.benchmark.VacancySearchBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VacancySearchBenchmark {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final int PAGE_SIZE = 15;
+
+    private static final String FILTERS = """
+            FROM recruiting_data.vacancy v
+            JOIN recruiting_data.category cat ON cat.id = v.category_id
+            WHERE v.status = 'ENABLED'
+            AND (? = ''
+                OR LOWER(v.title) LIKE CONCAT('%', LOWER(?), '%')
+                OR LOWER(v.location) LIKE CONCAT('%', LOWER(?), '%')
+                OR LOWER(cat.name) LIKE CONCAT('%', LOWER(?), '%'))
+            AND (CAST(? AS VARCHAR) IS NULL OR v.work_mode = CAST(? AS VARCHAR))
+            AND v.created_at BETWEEN ? AND ?
+            """;
+
+    private static final String PAGE_QUERY = "SELECT v.id " + FILTERS
+            + "ORDER BY v.created_at DESC, cat.name ASC LIMIT " + PAGE_SIZE;
+
+    private static final String COUNT_QUERY = "SELECT COUNT(v.id) " + FILTERS;
+
+    private static final String HYDRATE_QUERY = """
+            SELECT v.id, v.company_id, cat.name, v.title, v.contract_type, v.work_mode, v.position_level, v.workload,
+                   v.location, v.salary_from, v.salary_to, v.created_at
+            FROM recruiting_data.vacancy v
+            JOIN recruiting_data.category cat ON cat.id = v.category_id
+            WHERE v.id = ANY(?)
+            """;
+
+    @Param({"100000"})
+    private int vacancies;
+
+    @Param({"python", "kra", ""})
+    private String text;
+
+    @Param({"", "REMOTE"})
+    private String workMode;
+
+    private EmbeddedPostgres postgres;
+    private Connection connection;
+    private VacancySearchIndex searchIndex;
+    private VacancySearchCriteria criteria;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(VacancySearchBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        postgres = EmbeddedPostgres.builder().start();
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        connection = postgres.getPostgresDatabase().getConnection();
+
+        try (PreparedStatement insert = connection.prepareStatement("""
+                INSERT INTO recruiting_data.vacancy (company_id, recruiter_id, category_id, title, description,
+                                                     contract_type, work_mode, position_level, workload, location,
+                                                     salary_from, salary_to, status, created_at)
+                SELECT gen_random_uuid(),
+                       'benchmark-recruiter',
+                       (SELECT id FROM recruiting_data.category ORDER BY name OFFSET (n % 120) LIMIT 1),
+                       (ARRAY['Senior', 'Junior', 'Mid', 'Lead', 'Principal'])[1 + n % 5] || ' ' ||
+                       (ARRAY['Java', 'Python', 'Frontend', 'Data', 'Cloud', 'Mobile', 'QA', 'Sales', 'Finance', 'Nurse'])[1 + n % 10] || ' ' ||
+                       (ARRAY['Developer', 'Engineer', 'Specialist', 'Analyst', 'Manager'])[1 + n % 7 % 5],
+                       'Generated vacancy ' || n,
+                       (ARRAY['EMPLOYMENT_CONTRACT', 'MANDATE_CONTRACT', 'B2B', 'INTERNSHIP'])[1 + n % 4],
+                       (ARRAY['ONSITE', 'HYBRID', 'REMOTE'])[1 + n % 3],
+                       (ARRAY['JUNIOR', 'MID', 'SENIOR', 'MANAGER'])[1 + n % 4],
+                       (ARRAY['FULL_TIME', 'PART_TIME'])[1 + n % 2],
+                       (ARRAY['Warszawa', 'Krakow', 'Szczecin', 'Gdansk', 'Wroclaw', 'Poznan'])[1 + n % 6],
+                       3000 + n % 50 * 100,
+                       8000 + n % 70 * 100,
+                       CASE WHEN n % 10 = 0 THEN 'DISABLED' ELSE 'ENABLED' END,
+                       TIMESTAMP '2025-01-01' + (n % 300) * INTERVAL '1 day'
+                FROM generate_series(1, ?) AS n
+                """); Statement statement = connection.createStatement()) {
+            insert.setInt(1, vacancies);
+            insert.executeUpdate();
+            statement.execute("ANALYZE recruiting_data.vacancy");
+        }
+
+        VacancyRepository vacancyRepository = mock(VacancyRepository.class);
+        when(vacancyRepository.findAllIndexedVacancies()).thenReturn(loadIndexedVacancies());
+        searchIndex = new VacancySearchIndex(vacancyRepository);
+        ReflectionTestUtils.setField(searchIndex, "enabled", true);
+        searchIndex.rebuild();
+
+        criteria = new VacancySearchCriteria(text, null, workMode.isEmpty() ? null : WorkMode.valueOf(workMode),
+                null, null, null, null, null, FROM, LocalDateTime.now());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException, IOException {
+        connection.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public void index(Blackhole blackhole) throws SQLException {
+        Page<UUID> page = searchIndex.search(criteria, PageRequest.of(0, PAGE_SIZE)).orElseThrow();
+        blackhole.consume(page.getTotalElements());
+        hydrate(page.getContent(), blackhole);
+    }
+
+    @Benchmark
+    public void sql(Blackhole blackhole) throws SQLException {
+        List<UUID> ids = new ArrayList<>(PAGE_SIZE);
+        try (PreparedStatement statement = connection.prepareStatement(PAGE_QUERY)) {
+            bindFilters(statement);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    ids.add(resultSet.getObject(1, UUID.class));
+                }
+            }
+        }
+        try (PreparedStatement statement = connection.prepareStatement(COUNT_QUERY)) {
+            bindFilters(statement);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                blackhole.consume(resultSet.getLong(1));
+            }
+        }
+        hydrate(ids, blackhole);
+    }
+
+    private void bindFilters(PreparedStatement statement) throws SQLException {
+        for (int i = 1; i <= 4; i++) {
+            statement.setString(i, text);
+        }
+        statement.setString(5, workMode.isEmpty() ? null : workMode);
+        statement.setString(6, workMode.isEmpty() ? null : workMode);
+        statement.setTimestamp(7, Timestamp.valueOf(criteria.createdFrom()));
+        statement.setTimestamp(8, Timestamp.valueOf(criteria.createdTo()));
+    }
+
+    private void hydrate(List<UUID> ids, Blackhole blackhole) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(HYDRATE_QUERY)) {
+            statement.setArray(1, connection.createArrayOf("uuid", ids.toArray()));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    blackhole.consume(resultSet.getString(4));
+                }
+            }
+        }
+    }
+
+    private List<IndexedVacancy> loadIndexedVacancies() throws SQLException {
+        List<IndexedVacancy> indexed = new ArrayList<>(vacancies);
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("""
+                     SELECT v.id, v.company_id, v.title, v.location, cat.name, v.contract_type, v.work_mode,
+                            v.position_level, v.workload, v.salary_from, v.salary_to, v.status, v.created_at
+                     FROM recruiting_data.vacancy v
+                     JOIN recruiting_data.category cat ON cat.id = v.category_id
+                     WHERE v.status = 'ENABLED'
+                     """)) {
+            while (resultSet.next()) {
+                indexed.add(new IndexedVacancy(
+                        resultSet.getObject(1, UUID.class),
+                        resultSet.getObject(2, UUID.class),
+                        resultSet.getString(3),
+                        resultSet.getString(4),
+                        resultSet.getString(5),
+                        ContractType.valueOf(resultSet.getString(6)),
+                        WorkMode.valueOf(resultSet.getString(7)),
+                        PositionLevel.valueOf(resultSet.getString(8)),
+                        Workload.valueOf(resultSet.getString(9)),
+                        resultSet.getInt(10),
+                        resultSet.getInt(11),
+                        VacancyStatus.valueOf(resultSet.getString(12)),
+                        resultSet.getTimestamp(13).toLocalDateTime()));
+            }
+        }
+        return indexed;
+    }
+}
@@ -0,0 +1,238 @@
+package org.yaroslaavl.recruitingservice.stub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.yaroslaavl.recruitingservice.feignClient.dto.CVApplicationDto;
+import org.yaroslaavl.recruitingservice.feignClient.dto.CompanyPreviewFeignDto;
+import org.yaroslaavl.recruitingservice.feignClient.dto.UserFeignDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Stand-in for user-service, cv-service and Keycloak, so the whole service can be load tested on one box.
+ * <p>
+ * Serves every endpoint of {@code UserFeignClient} and {@code CvFeignClient}, the client credentials token endpoint
+ * and the JWKS of a {@code recruiting} realm. Tokens are signed with a key generated at start, and user tokens for the
+ * load generator are minted by {@code GET /stub/token?sub=&email=&roles=}. Each downstream service answers after a
+ * log-normal delay and fails with 503 at a configurable rate, see {@link StubSettings}. Run standalone with {@link #main}
+ * or together with the service through {@link LoadTestRecruitingServiceApplication}.
+ */
+@Slf4j
+public class DownstreamStubServer implements AutoCloseable {
+
+    public static final String REALM_PATH = "/realms/recruiting/protocol/openid-connect";
+
+    private static final Pattern CV_PATH = Pattern.compile("/api/v1/cv/([0-9a-fA-F-]{36})/application");
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final StubSettings settings;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final RSAKey signingKey;
+
+    private DownstreamStubServer(StubSettings settings) throws IOException, JOSEException {
+        this.settings = settings;
+        this.signingKey = new RSAKeyGenerator(2048).keyID("recruiting-stub").generate();
+        this.server = HttpServer.create(new InetSocketAddress("localhost", settings.port()), 0);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+    }
+
+    public static DownstreamStubServer start(StubSettings settings) throws IOException, JOSEException {
+        DownstreamStubServer stub = new DownstreamStubServer(settings);
+        stub.server.start();
+        log.info("Downstream stub listening on {} with {}", stub.url(), settings);
+        return stub;
+    }
+
+    public static void main(String[] args) throws Exception {
+        start(StubSettings.fromSystemProperties());
+        Thread.currentThread().join();
+    }
+
+    public String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public String issueToken(String subject, String email, List<String> roles) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(url() + "/realms/recruiting")
+                .subject(subject)
+                .claim("email", email)
+                .claim("recruiter_app_roles", roles)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(settings.tokenLifetime())))
+                .build();
+        try {
+            SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+            jwt.sign(new RSASSASigner(signingKey));
+            return jwt.serialize();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not sign stub token", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            Map<String, List<String>> query = query(exchange);
+
+            String service = path.startsWith("/api/v1/cv/") ? "cv-service"
+                    : path.startsWith("/api/v1/") ? "user-service" : "keycloak";
+            StubSettings.Behaviour behaviour = settings.behaviour(service);
+            if (!path.startsWith("/stub/")) {
+                sleep(behaviour.sampleLatency());
+                if (ThreadLocalRandom.current().nextDouble() < behaviour.errorRate()) {
+                    respond(exchange, 503, Map.of("error", service + " stub failure"));
+                    return;
+                }
+            }
+
+            Matcher cvPath = CV_PATH.matcher(path);
+            switch (path) {
+                case REALM_PATH + "/token" -> respond(exchange, 200, Map.of(
+                        "access_token", issueToken("recruiting-service", null, List.of("ROLE_SERVICE")),
+                        "expires_in", settings.tokenLifetime().toSeconds(),
+                        "token_type", "Bearer"));
+                case REALM_PATH + "/certs" -> respondJson(exchange, 200, new JWKSet(signingKey.toPublicJWK()).toString());
+                case "/stub/token" -> respondText(exchange, issueToken(
+                        first(query, "sub", UUID.randomUUID().toString()),
+                        first(query, "email", "loadtest@example.com"),
+                        List.of(first(query, "roles", "ROLE_CANDIDATE").split(","))));
+                case "/api/v1/user/belongs", "/api/v1/user/isApproved" -> respond(exchange, 200, true);
+                case "/api/v1/user/batch-displayName" -> respond(exchange, 200, displayNames(values(query, "userIds")));
+                case "/api/v1/user/filtered-candidates" -> respond(exchange, 200, candidates());
+                case "/api/v1/company/preview" -> respond(exchange, 200, previews(values(query, "companyIds")));
+                default -> {
+                    if (cvPath.matches()) {
+                        UUID cvId = UUID.fromString(cvPath.group(1));
+                        respond(exchange, 200, new CVApplicationDto(cvId, url() + "/stub/cv/" + cvId + ".pdf", "cv-" + cvId + ".pdf"));
+                    } else {
+                        respond(exchange, 404, Map.of("error", "No stub for " + path));
+                    }
+                }
+            }
+        }
+    }
+
+    private Map<String, String> displayNames(List<String> userIds) {
+        Map<String, String> names = new HashMap<>(userIds.size());
+        userIds.forEach(userId -> names.put(userId, "User " + userId.substring(0, Math.min(8, userId.length()))));
+        return names;
+    }
+
+    private Map<String, UserFeignDto> candidates() {
+        Map<String, UserFeignDto> candidates = new HashMap<>(settings.candidates());
+        for (int i = 0; i < settings.candidates(); i++) {
+            String userId = candidateId(i);
+            candidates.put(userId, new UserFeignDto(userId, "Candidate " + i,
+                    String.valueOf(3000 + i % 50 * 100), i % 2 == 0 ? "REMOTE" : "HYBRID", 20 + i % 21, "2026-01-01"));
+        }
+        return candidates;
+    }
+
+    private Map<UUID, CompanyPreviewFeignDto> previews(List<String> companyIds) {
+        Map<UUID, CompanyPreviewFeignDto> previews = new HashMap<>(companyIds.size());
+        for (String companyId : companyIds) {
+            UUID id = UUID.fromString(companyId);
+            previews.put(id, new CompanyPreviewFeignDto(id, "Company " + companyId.substring(0, 8), "Szczecin", null));
+        }
+        return previews;
+    }
+
+    /**
+     * Returns the identifier of the n-th candidate returned by the filtered candidates endpoint, so that the load
+     * generator can act as the same candidates.
+     */
+    public static String candidateId(int n) {
+        return UUID.nameUUIDFromBytes(("candidate-" + n).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private static Map<String, List<String>> query(HttpExchange exchange) {
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        Map<String, List<String>> parameters = new HashMap<>();
+        if (rawQuery == null) {
+            return parameters;
+        }
+
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = URLDecoder.decode(separator < 0 ? pair : pair.substring(0, separator), StandardCharsets.UTF_8);
+            String value = separator < 0 ? "" : URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+            parameters.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        }
+        return parameters;
+    }
+
+    private static List<String> values(Map<String, List<String>> query, String name) {
+        return query.getOrDefault(name, List.of()).stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .filter(value -> !value.isBlank())
+                .toList();
+    }
+
+    private static String first(Map<String, List<String>> query, String name, String defaultValue) {
+        List<String> values = query.get(name);
+        return values == null || values.isEmpty() ? defaultValue : values.getFirst();
+    }
+
+    private static void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        respondJson(exchange, status, OBJECT_MAPPER.writeValueAsString(body));
+    }
+
+    private static void respondJson(HttpExchange exchange, int status, String json) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        write(exchange, status, json);
+    }
+
+    private static void respondText(HttpExchange exchange, String text) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/plain");
+        write(exchange, 200, text);
+    }
+
+    private static void write(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private static void sleep(Duration latency) {
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.yaroslaavl.recruitingservice.stub;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Beans replacing infrastructure that is not available during a load test. Notifications are serialized as usual
+ * and then dropped instead of being sent to RabbitMQ.
+ */
+@Slf4j
+@TestConfiguration(proxyBeanMethods = false)
+public class LoadTestConfiguration {
+
+    @Bean
+    @Primary
+    public RabbitTemplate droppingRabbitTemplate(ConnectionFactory connectionFactory, Jackson2JsonMessageConverter messageConverter) {
+        RabbitTemplate template = new RabbitTemplate(connectionFactory) {
+
+            @Override
+            public void send(String exchange, String routingKey, Message message, CorrelationData correlationData) {
+                log.trace("Dropping message for {}/{}", exchange, routingKey);
+            }
+        };
+        template.setMessageConverter(messageConverter);
+        return template;
+    }
+}
@@ -0,0 +1,53 @@
+package org.yaroslaavl.recruitingservice.stub;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.SpringApplication;
+import org.yaroslaavl.recruitingservice.RecruitingServiceApplication;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Starts the service with the {@code loadtest} profile against a {@link DownstreamStubServer} and an embedded
+ * Postgres migrated by Flyway, with no Consul, RabbitMQ, Keycloak or other service needed:
+ * <pre>
+ * mvn spring-boot:test-run -Dspring-boot.run.main-class=org.yaroslaavl.recruitingservice.stub.LoadTestRecruitingServiceApplication \
+ *     -Dspring-boot.run.jvmArguments="-Dstub.latency.median=PT0.01S -Dstub.latency.p99=PT0.2S -Dstub.error_rate=0.01"
+ * </pre>
+ * The stub URL is logged at start; load generators fetch bearer tokens from its {@code /stub/token} endpoint.
+ * To keep the stub from competing with the service for CPU, start {@link DownstreamStubServer#main} in its own JVM
+ * and pass its address as {@code -Dstub.url}.
+ */
+public class LoadTestRecruitingServiceApplication {
+
+    private static final String[] LOAD_TEST_ARGUMENTS = {
+            "--spring.profiles.active=loadtest",
+            "--spring.config.on-not-found=ignore",
+            "--spring.cloud.consul.config.fail-fast=false",
+            "--spring.cloud.consul.discovery.enabled=false"
+    };
+
+    public static void main(String[] args) throws Exception {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        DownstreamStubServer stub = System.getProperty("stub.url") == null
+                ? DownstreamStubServer.start(StubSettings.fromSystemProperties())
+                : null;
+
+        System.setProperty("loadtest.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+        if (stub != null) {
+            System.setProperty("stub.url", stub.url());
+        }
+
+        try {
+            SpringApplication.from(RecruitingServiceApplication::main)
+                    .with(LoadTestConfiguration.class)
+                    .run(Stream.concat(Arrays.stream(LOAD_TEST_ARGUMENTS), Arrays.stream(args)).toArray(String[]::new));
+        } catch (RuntimeException e) {
+            if (stub != null) {
+                stub.close();
+            }
+            postgres.close();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.yaroslaavl.recruitingservice.stub;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Settings of the {@link DownstreamStubServer}, read from system properties.
+ * <ul>
+ *     <li>{@code stub.port} - port to listen on, {@code 0} picks a free one</li>
+ *     <li>{@code stub.latency.median}, {@code stub.latency.p99} - log-normal response delay of every service</li>
+ *     <li>{@code stub.error_rate} - share of requests answered with 503, from {@code 0} to {@code 1}</li>
+ *     <li>{@code stub.<service>.latency.median}, {@code stub.<service>.latency.p99}, {@code stub.<service>.error_rate} -
+ *     the same for {@code user-service}, {@code cv-service} or {@code keycloak} only</li>
+ *     <li>{@code stub.candidates} - number of candidates returned by the filtered candidates endpoint</li>
+ *     <li>{@code stub.token.lifetime} - lifetime of the issued tokens</li>
+ * </ul>
+ */
+public record StubSettings(int port,
+                           Map<String, Behaviour> behaviours,
+                           int candidates,
+                           Duration tokenLifetime) {
+
+    private static final String[] SERVICES = {"user-service", "cv-service", "keycloak"};
+
+    public static StubSettings fromSystemProperties() {
+        Duration median = duration("stub.latency.median", Duration.ofMillis(5));
+        Duration p99 = duration("stub.latency.p99", Duration.ofMillis(50));
+        double errorRate = Double.parseDouble(System.getProperty("stub.error_rate", "0"));
+
+        Map<String, Behaviour> behaviours = new HashMap<>();
+        for (String service : SERVICES) {
+            behaviours.put(service, new Behaviour(
+                    duration("stub." + service + ".latency.median", median),
+                    duration("stub." + service + ".latency.p99", p99),
+                    Double.parseDouble(System.getProperty("stub." + service + ".error_rate", String.valueOf(errorRate)))));
+        }
+
+        return new StubSettings(Integer.getInteger("stub.port", 0), Map.copyOf(behaviours),
+                Integer.getInteger("stub.candidates", 1000), duration("stub.token.lifetime", Duration.ofMinutes(5)));
+    }
+
+    public Behaviour behaviour(String service) {
+        return behaviours.get(service);
+    }
+
+    private static Duration duration(String property, Duration defaultValue) {
+        String value = System.getProperty(property);
+        return value == null ? defaultValue : Duration.parse(value);
+    }
+
+    /**
+     * Response behaviour of one stubbed service. Delays follow a log-normal distribution with the given median and
+     * 99th percentile, a zero median disables them.
+     */
+    public record Behaviour(Duration medianLatency, Duration p99Latency, double errorRate) {
+
+        private static final double Z_99 = 2.326;
+
+        public Duration sampleLatency() {
+            if (medianLatency.isZero()) {
+                return Duration.ZERO;
+            }
+
+            double sigma = Math.log((double) Math.max(p99Latency.toNanos(), medianLatency.toNanos()) / medianLatency.toNanos()) / Z_99;
+            double nanos = medianLatency.toNanos() * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian());
+            return Duration.ofNanos((long) nanos);
+        }
+    }
+}
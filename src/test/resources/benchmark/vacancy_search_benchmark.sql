@@ -0,0 +1,57 @@
+-- Compares the LIKE based vacancy search with the full-text search mode.
+-- Run against a disposable database migrated up to V6, e.g. psql -f vacancy_search_benchmark.sql
+
+INSERT INTO recruiting_data.vacancy (company_id, recruiter_id, category_id, title, description,
+                                     contract_type, work_mode, position_level, workload, location,
+                                     salary_from, salary_to, status, created_at)
+SELECT gen_random_uuid(),
+       'benchmark-recruiter',
+       (SELECT id FROM recruiting_data.category ORDER BY name OFFSET (n % 120) LIMIT 1),
+       (ARRAY['Senior', 'Junior', 'Mid', 'Lead', 'Principal'])[1 + n % 5] || ' ' ||
+       (ARRAY['Java', 'Python', 'Frontend', 'Data', 'Cloud', 'Mobile', 'QA', 'Sales', 'Finance', 'Nurse'])[1 + n % 10] || ' ' ||
+       (ARRAY['Developer', 'Engineer', 'Specialist', 'Analyst', 'Manager'])[1 + n % 7 % 5],
+       'Generated vacancy ' || n,
+       (ARRAY['EMPLOYMENT_CONTRACT', 'MANDATE_CONTRACT', 'B2B', 'INTERNSHIP'])[1 + n % 4],
+       (ARRAY['ONSITE', 'HYBRID', 'REMOTE'])[1 + n % 3],
+       (ARRAY['JUNIOR', 'MID', 'SENIOR', 'MANAGER'])[1 + n % 4],
+       (ARRAY['FULL_TIME', 'PART_TIME'])[1 + n % 2],
+       (ARRAY['Warszawa', 'Krakow', 'Szczecin', 'Gdansk', 'Wroclaw', 'Poznan'])[1 + n % 6],
+       3000 + n % 50 * 100,
+       8000 + n % 70 * 100,
+       CASE WHEN n % 10 = 0 THEN 'DISABLED' ELSE 'ENABLED' END,
+       TIMESTAMP '2025-01-01' + (n % 300) * INTERVAL '1 day'
+FROM generate_series(1, 1000000) AS n;
+
+ANALYZE recruiting_data.vacancy;
+
+-- Current LIKE query
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT v.id FROM recruiting_data.vacancy v
+JOIN recruiting_data.category cat ON cat.id = v.category_id
+WHERE v.status = 'ENABLED'
+AND (LOWER(v.title) LIKE '%python%' OR LOWER(v.location) LIKE '%python%' OR LOWER(cat.name) LIKE '%python%')
+AND v.created_at BETWEEN TIMESTAMP '2025-01-01' AND NOW()
+ORDER BY v.created_at DESC, cat.name ASC
+LIMIT 15;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COUNT(v.id) FROM recruiting_data.vacancy v
+JOIN recruiting_data.category cat ON cat.id = v.category_id
+WHERE v.status = 'ENABLED'
+AND (LOWER(v.title) LIKE '%python%' OR LOWER(v.location) LIKE '%python%' OR LOWER(cat.name) LIKE '%python%')
+AND v.created_at BETWEEN TIMESTAMP '2025-01-01' AND NOW();
+
+-- Full-text search mode
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT v.id FROM recruiting_data.vacancy v
+WHERE v.status = 'ENABLED'
+AND v.search_vector @@ websearch_to_tsquery('english', 'python')
+AND v.created_at BETWEEN TIMESTAMP '2025-01-01' AND NOW()
+ORDER BY ts_rank(v.search_vector, websearch_to_tsquery('english', 'python')) DESC, v.created_at DESC
+LIMIT 15;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COUNT(v.id) FROM recruiting_data.vacancy v
+WHERE v.status = 'ENABLED'
+AND v.search_vector @@ websearch_to_tsquery('english', 'python')
+AND v.created_at BETWEEN TIMESTAMP '2025-01-01' AND NOW();
@@ -0,0 +1,222 @@
+-- Hot repository queries checked by QueryPlanTest, written as the SQL Hibernate sends.
+-- Every statement starts with a "-- name:" line. :vacancyId, :companyId, :applicationId,
+-- :candidateId and :userId are replaced as whole tokens with values from the seeded data before EXPLAIN.
+
+-- name: VacancyRepository.findAllNotActiveVacancies
+SELECT v.id FROM recruiting_data.vacancy v
+WHERE v.is_waiting_for_approval = true AND v.status = 'DISABLED'
+ORDER BY v.created_at ASC;
+
+-- name: VacancyRepository.findAllActiveVacancies
+SELECT v.id FROM recruiting_data.vacancy v
+WHERE v.is_waiting_for_approval = false AND v.status = 'ENABLED'
+ORDER BY v.created_at ASC;
+
+-- name: VacancyRepository.getCompanyVacancies
+SELECT v.id, v.company_id, cat.name, v.title, v.created_at
+FROM recruiting_data.vacancy v
+JOIN recruiting_data.category cat ON cat.id = v.category_id
+WHERE v.company_id = :companyId AND v.status = 'ENABLED'
+ORDER BY v.created_at DESC, cat.name ASC
+OFFSET 0 ROWS FETCH FIRST 15 ROWS ONLY;
+
+-- name: VacancyRepository.scrollCompanyVacancyIds
+SELECT v.id FROM recruiting_data.vacancy v
+WHERE v.company_id = :companyId AND v.status = 'ENABLED'
+AND (v.created_at, v.id) < (TIMESTAMP '2030-01-01', 'ffffffff-ffff-ffff-ffff-ffffffffffff'::uuid)
+ORDER BY v.created_at DESC, v.id DESC
+LIMIT 16;
+
+-- name: VacancyRepository.scrollFilteredVacancyIds
+SELECT v.id FROM recruiting_data.vacancy v
+WHERE v.status = 'ENABLED'
+AND (v.created_at BETWEEN TIMESTAMP '2025-01-01' AND TIMESTAMP '2030-01-01')
+AND (v.created_at, v.id) < (TIMESTAMP '2030-01-01', 'ffffffff-ffff-ffff-ffff-ffffffffffff'::uuid)
+ORDER BY v.created_at DESC, v.id DESC
+LIMIT 16;
+
+-- name: VacancyRepository.getFilteredVacancies (LIKE)
+SELECT v.id, v.company_id, cat.name, v.title, v.created_at
+FROM recruiting_data.vacancy v
+JOIN recruiting_data.category cat ON cat.id = v.category_id
+WHERE v.status = 'ENABLED'
+AND ('python' = ''
+    OR LOWER(v.title) LIKE '%python%'
+    OR LOWER(v.location) LIKE '%python%'
+    OR LOWER(cat.name) LIKE '%python%')
+AND v.work_mode = 'REMOTE'
+AND (v.created_at BETWEEN TIMESTAMP '2025-01-01' AND TIMESTAMP '2030-01-01')
+ORDER BY v.created_at DESC, cat.name ASC
+OFFSET 0 ROWS FETCH FIRST 15 ROWS ONLY;
+
+-- name: VacancyRepository.getFilteredVacancies.count (LIKE)
+SELECT count(v.id)
+FROM recruiting_data.vacancy v
+JOIN recruiting_data.category cat ON cat.id = v.category_id
+WHERE v.status = 'ENABLED'
+AND ('python' = ''
+    OR LOWER(v.title) LIKE '%python%'
+    OR LOWER(v.location) LIKE '%python%'
+    OR LOWER(cat.name) LIKE '%python%')
+AND (v.created_at BETWEEN TIMESTAMP '2025-01-01' AND TIMESTAMP '2030-01-01');
+
+-- name: VacancyRepository.getFullTextFilteredVacancyIds
+SELECT v.id FROM recruiting_data.vacancy v
+WHERE v.status = 'ENABLED'
+AND v.search_vector @@ websearch_to_tsquery('english', 'python developer')
+AND (CAST(NULL AS VARCHAR) IS NULL OR v.contract_type = CAST(NULL AS VARCHAR))
+AND (v.created_at BETWEEN TIMESTAMP '2025-01-01' AND TIMESTAMP '2030-01-01')
+ORDER BY ts_rank(v.search_vector, websearch_to_tsquery('english', 'python developer')) DESC, v.created_at DESC
+LIMIT 15;
+
+-- name: VacancyRepository.getFullTextFilteredVacancyIds.count
+SELECT COUNT(v.id) FROM recruiting_data.vacancy v
+WHERE v.status = 'ENABLED'
+AND v.search_vector @@ websearch_to_tsquery('english', 'python developer')
+AND (v.created_at BETWEEN TIMESTAMP '2025-01-01' AND TIMESTAMP '2030-01-01');
+
+-- name: VacancyRepository.getTrigramFilteredVacancyIds
+SELECT v.id FROM recruiting_data.vacancy v
+JOIN recruiting_data.category cat ON cat.id = v.category_id
+WHERE v.status = 'ENABLED'
+AND (LOWER(v.title) LIKE CONCAT('%', LOWER('pyton'), '%')
+    OR LOWER('pyton') <% LOWER(v.title)
+    OR LOWER(v.location) LIKE CONCAT('%', LOWER('pyton'), '%')
+    OR LOWER('pyton') <% LOWER(v.location)
+    OR v.category_id = ANY(ARRAY(
+        SELECT c.id FROM recruiting_data.category c
+        WHERE LOWER(c.name) LIKE CONCAT('%', LOWER('pyton'), '%')
+        OR LOWER('pyton') <% LOWER(c.name)))
+    )
+AND (v.created_at BETWEEN TIMESTAMP '2025-01-01' AND TIMESTAMP '2030-01-01')
+ORDER BY GREATEST(
+    word_similarity(LOWER('pyton'), LOWER(v.title)),
+    word_similarity(LOWER('pyton'), LOWER(COALESCE(v.location, ''))),
+    word_similarity(LOWER('pyton'), LOWER(cat.name))) DESC, v.created_at DESC
+LIMIT 15;
+
+-- name: VacancyRepository.getTrigramFilteredVacancyIds.count
+SELECT COUNT(v.id) FROM recruiting_data.vacancy v
+WHERE v.status = 'ENABLED'
+AND (LOWER(v.title) LIKE CONCAT('%', LOWER('pyton'), '%')
+    OR LOWER('pyton') <% LOWER(v.title)
+    OR LOWER(v.location) LIKE CONCAT('%', LOWER('pyton'), '%')
+    OR LOWER('pyton') <% LOWER(v.location)
+    OR v.category_id = ANY(ARRAY(
+        SELECT c.id FROM recruiting_data.category c
+        WHERE LOWER(c.name) LIKE CONCAT('%', LOWER('pyton'), '%')
+        OR LOWER('pyton') <% LOWER(c.name)))
+    )
+AND (v.created_at BETWEEN TIMESTAMP '2025-01-01' AND TIMESTAMP '2030-01-01');
+
+-- name: VacancyRepository.getVacancyFacetRows
+SELECT v.contract_type, v.work_mode, v.position_level, v.workload,
+       LEAST(GREATEST(v.salary_from, 0) / CAST(5000 AS INTEGER), CAST(6 AS INTEGER) - 1) AS "salaryBucket",
+       COALESCE((CAST(8000 AS INTEGER) IS NULL
+           OR ('WITHIN' = 'OVERLAPS' AND v.salary_to >= CAST(8000 AS INTEGER))
+           OR ('WITHIN' <> 'OVERLAPS' AND v.salary_from >= CAST(8000 AS INTEGER)))
+       AND (CAST(NULL AS INTEGER) IS NULL
+           OR ('WITHIN' = 'OVERLAPS' AND v.salary_from <= CAST(NULL AS INTEGER))
+           OR ('WITHIN' <> 'OVERLAPS' AND v.salary_to <= CAST(NULL AS INTEGER))), false) AS "salaryMatches",
+       COUNT(*)
+FROM recruiting_data.vacancy v
+JOIN recruiting_data.category cat ON cat.id = v.category_id
+WHERE v.status = 'ENABLED'
+AND ('python' = ''
+    OR (LOWER(v.title) LIKE CONCAT('%', LOWER('python'), '%')
+        OR LOWER(v.location) LIKE CONCAT('%', LOWER('python'), '%')
+        OR LOWER(cat.name) LIKE CONCAT('%', LOWER('python'), '%')))
+AND (v.created_at BETWEEN TIMESTAMP '2025-01-01' AND TIMESTAMP '2030-01-01')
+GROUP BY v.contract_type, v.work_mode, v.position_level, v.workload, "salaryBucket", "salaryMatches";
+
+-- name: CategoryRepository.findSimilarCategories
+SELECT c.* FROM recruiting_data.category c
+WHERE LOWER(c.name) LIKE CONCAT('%', LOWER('enginering'), '%')
+OR LOWER('enginering') <% LOWER(c.name)
+ORDER BY word_similarity(LOWER('enginering'), LOWER(c.name)) DESC, c.name ASC;
+
+-- name: VacancyRepository.getVacancyCardsByIds
+SELECT v.id, v.company_id, cat.name, v.title, v.created_at
+FROM recruiting_data.vacancy v
+JOIN recruiting_data.category cat ON cat.id = v.category_id
+WHERE v.id IN (:vacancyId);
+
+-- name: Vacancy.notResolvedReports
+SELECT count(*) FROM recruiting_data.report_system rc
+WHERE rc.vacancy_id = :vacancyId AND rc.status != 'RESOLVED';
+
+-- name: ApplicationRepository.findByVacancyIdAndCandidateId
+SELECT a.id FROM recruiting_data.application a
+WHERE a.vacancy_id = :vacancyId AND a.candidate_id = :candidateId;
+
+-- name: ApplicationRepository.findApplicationsByVacancyIdAndStatus
+SELECT a.id, a.candidate_id, a.status, a.applied_at FROM recruiting_data.application a
+LEFT JOIN recruiting_data.candidate_profile cp ON cp.user_id = a.candidate_id
+WHERE a.vacancy_id = :vacancyId AND a.status = 'VIEWED'
+OFFSET 0 ROWS FETCH FIRST 15 ROWS ONLY;
+
+-- name: ApplicationRepository.findApplicationsByVacancyIdAndStatus (candidate filters)
+SELECT a.id, a.candidate_id, a.status, a.applied_at FROM recruiting_data.application a
+LEFT JOIN recruiting_data.candidate_profile cp ON cp.user_id = a.candidate_id
+WHERE a.vacancy_id = :vacancyId AND cp.work_mode = 'REMOTE' AND cp.salary <= 4000
+  AND cp.available_hours_per_week >= 30 AND cp.available_from <= DATE '2026-02-01'
+OFFSET 0 ROWS FETCH FIRST 15 ROWS ONLY;
+
+-- name: CandidateProfileRepository.findAllById
+SELECT cp.user_id, cp.display_name, cp.salary, cp.work_mode FROM recruiting_data.candidate_profile cp
+WHERE cp.user_id IN (:candidateId, 'candidate-1', 'candidate-2');
+
+-- name: ApplicationRepository.countApplicationsByVacancyIds
+SELECT a.vacancy_id, count(a.id) FROM recruiting_data.application a
+WHERE a.vacancy_id IN (:vacancyId, '00000000-0000-0000-0000-000000000001', '00000000-0000-0000-0000-000000000002')
+GROUP BY a.vacancy_id;
+
+-- name: ApplicationRepository.findApplicationsByCandidateId
+SELECT a.id, v.id, v.title, v.company_id, v.location, v.created_at, a.status, a.applied_at
+FROM recruiting_data.application a
+JOIN recruiting_data.vacancy v ON v.id = a.vacancy_id
+WHERE a.candidate_id = :candidateId
+ORDER BY a.applied_at DESC
+OFFSET 0 ROWS FETCH FIRST 15 ROWS ONLY;
+
+-- name: ApplicationRepository.findApplicationsByCandidateId.count
+SELECT count(a.id) FROM recruiting_data.application a
+JOIN recruiting_data.vacancy v ON v.id = a.vacancy_id
+WHERE a.candidate_id = :candidateId;
+
+-- name: ApplicationHistoryRepository.findTopByApplicationIdOrderByChangedAtDesc
+SELECT h.id, h.old_status, h.new_status, h.changed_at FROM recruiting_data.application_history h
+WHERE h.application_id = :applicationId
+ORDER BY h.changed_at DESC
+FETCH FIRST 1 ROWS ONLY;
+
+-- name: ReportSystemRepository.existsReportSystemByUserIdAndVacancy_IdAndStatus_New
+SELECT CASE WHEN count(rs.id) > 0 THEN true ELSE false END FROM recruiting_data.report_system rs
+WHERE rs.user_id = :userId AND rs.vacancy_id = :vacancyId AND rs.status = 'NEW';
+
+-- name: ReportSystemRepository.countReportSystemByUserIdWithinTimeSpan
+SELECT count(rs.id) FROM recruiting_data.report_system rs
+WHERE rs.user_id = :userId AND rs.created_at >= TIMESTAMP '2025-03-01';
+
+-- name: ReportSystemRepository.findFirstByUserIdAndCreatedAtAfterOrderByCreatedAtAsc
+SELECT rs.id FROM recruiting_data.report_system rs
+WHERE rs.user_id = :userId AND rs.created_at > TIMESTAMP '2025-03-01'
+ORDER BY rs.created_at ASC
+FETCH FIRST 1 ROWS ONLY;
+
+-- name: ReportSystemRepository.findReportSystemsByUserIdAndVacancy_Id
+SELECT rs.id FROM recruiting_data.report_system rs
+WHERE rs.user_id = :userId AND rs.vacancy_id = :vacancyId;
+
+-- name: ReportSystemRepository.findReportSystemsByFilteredStatus
+SELECT rs.id, rs.user_id, rs.status, rs.created_at FROM recruiting_data.report_system rs
+WHERE rs.status = 'NEW'
+ORDER BY rs.created_at DESC
+OFFSET 0 ROWS FETCH FIRST 15 ROWS ONLY;
+
+-- name: ReportSystemRepository.findReportSystemsByUserId
+SELECT rs.id, v.id, v.title, rs.status, rs.created_at FROM recruiting_data.report_system rs
+JOIN recruiting_data.vacancy v ON v.id = rs.vacancy_id
+WHERE rs.user_id = :userId
+ORDER BY rs.created_at DESC
+OFFSET 0 ROWS FETCH FIRST 15 ROWS ONLY;
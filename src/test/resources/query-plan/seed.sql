@@ -0,0 +1,49 @@
+-- Data set for QueryPlanTest: large enough for the planner to prefer indexes where they exist.
+-- Most vacancies are no longer ENABLED, as in a long running installation.
+
+INSERT INTO recruiting_data.vacancy (company_id, recruiter_id, category_id, title, description,
+                                     contract_type, work_mode, position_level, workload, location,
+                                     salary_from, salary_to, status, is_waiting_for_approval, created_at)
+SELECT ('00000000-0000-0000-0000-' || lpad((n % 2000)::text, 12, '0'))::uuid,
+       'recruiter-' || n % 2000,
+       (SELECT id FROM recruiting_data.category ORDER BY name OFFSET (n % 120) LIMIT 1),
+       (ARRAY['Senior', 'Junior', 'Mid', 'Lead', 'Principal'])[1 + n % 5] || ' ' ||
+       (ARRAY['Java', 'Python', 'Frontend', 'Data', 'Cloud', 'Mobile', 'QA', 'Sales', 'Finance', 'Nurse'])[1 + n % 10] || ' ' ||
+       (ARRAY['Developer', 'Engineer', 'Specialist', 'Analyst', 'Manager'])[1 + n % 7 % 5],
+       'Generated vacancy ' || n,
+       (ARRAY['EMPLOYMENT_CONTRACT', 'MANDATE_CONTRACT', 'B2B', 'INTERNSHIP'])[1 + n % 4],
+       (ARRAY['ONSITE', 'HYBRID', 'REMOTE'])[1 + n % 3],
+       (ARRAY['JUNIOR', 'MID', 'SENIOR', 'MANAGER'])[1 + n % 4],
+       (ARRAY['FULL_TIME', 'PART_TIME'])[1 + n % 2],
+       (ARRAY['Warszawa', 'Krakow', 'Szczecin', 'Gdansk', 'Wroclaw', 'Poznan'])[1 + n % 6],
+       3000 + n % 50 * 100,
+       8000 + n % 70 * 100,
+       (ARRAY['ENABLED', 'DISABLED', 'TIME_EXPIRED', 'TIME_EXPIRED', 'ARCHIVED', 'ARCHIVED', 'ARCHIVED', 'ARCHIVED', 'ARCHIVED', 'ARCHIVED',
+              'ARCHIVED', 'ARCHIVED', 'ARCHIVED', 'ARCHIVED', 'ARCHIVED', 'ARCHIVED', 'ARCHIVED', 'ARCHIVED', 'TEMP_DISABLED', 'ARCHIVED'])[1 + n % 20],
+       n % 20 IN (1, 18),
+       TIMESTAMP '2025-01-01' + n * INTERVAL '5 minutes'
+FROM generate_series(1, 50000) AS n;
+
+INSERT INTO recruiting_data.application (vacancy_id, candidate_id, cv_id, status, applied_at)
+SELECT v.id, 'candidate-' || (abs(hashtext(v.id::text)) + g) % 10000, gen_random_uuid(),
+       (ARRAY['NEW', 'VIEWED', 'IN_PROGRESS', 'REJECTED'])[1 + g % 4],
+       v.created_at + g * INTERVAL '1 hour'
+FROM recruiting_data.vacancy v, generate_series(1, 4) AS g;
+
+INSERT INTO recruiting_data.candidate_profile (user_id, display_name, salary, work_mode, available_hours_per_week, available_from, changed_at)
+SELECT 'candidate-' || n, 'Candidate ' || n, 3000 + n % 50 * 100,
+       (ARRAY['REMOTE', 'HYBRID', 'ON_SITE'])[1 + n % 3], 20 + n % 21, DATE '2026-01-01' + n % 90,
+       TIMESTAMPTZ '2025-01-01' + n * INTERVAL '1 minute'
+FROM generate_series(0, 19999) AS n;
+
+INSERT INTO recruiting_data.application_history (application_id, old_status, new_status, changed_by, changed_at)
+SELECT a.id, 'NEW', 'VIEWED', 'recruiter', a.applied_at + g * INTERVAL '1 day'
+FROM recruiting_data.application a, generate_series(1, 2) AS g;
+
+INSERT INTO recruiting_data.report_system (vacancy_id, user_id, reason, status, created_at)
+SELECT v.id, 'user-' || (abs(hashtext(v.id::text)) + g) % 10000, 'SPAM',
+       (ARRAY['NEW', 'RESOLVED', 'RESOLVED', 'RESOLVED', 'RESOLVED'])[1 + (abs(hashtext(v.id::text)) + g) % 5],
+       v.created_at + g * INTERVAL '1 day'
+FROM recruiting_data.vacancy v, generate_series(1, 2) AS g;
+
+ANALYZE;